@@ -0,0 +1,26 @@
+package com.nlbeglov.scheduler.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Точка входа benchmarks.jar: стандартные опции JMH плюс GC-профилировщик,
+ * чтобы рядом с пропускной способностью всегда печаталась скорость выделения памяти
+ * (gc.alloc.rate.norm — байт на операцию).
+ * Пример: java -jar benchmarks.jar SchedulerBenchmark -p processCount=100000
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-Djava.awt.headless=true")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,44 @@
+package com.nlbeglov.scheduler.bench;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Формы нагрузки для бенчмарков. Средняя длительность около 10 тактов,
+ * прибытия равномерны в окне, дающем загрузку CPU около 1.
+ */
+public enum BurstDistribution {
+
+    /** Равномерно 1..19. */
+    UNIFORM {
+        @Override
+        int nextBurst(SplittableRandom random) {
+            return 1 + random.nextInt(19);
+        }
+    },
+
+    /** Парето с α = 1.5: большинство задач короткие, редкие — в сотни раз длиннее. */
+    HEAVY_TAIL {
+        @Override
+        int nextBurst(SplittableRandom random) {
+            double u = 1.0 - random.nextDouble();
+            return (int) Math.min(100_000, Math.ceil(3.4 / Math.pow(u, 1 / 1.5)));
+        }
+    };
+
+    abstract int nextBurst(SplittableRandom random);
+
+    public List<ScheduledProcess> generate(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int maxArrival = count * 10;
+        List<ScheduledProcess> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(new ScheduledProcess("P" + (i + 1), random.nextInt(maxArrival + 1),
+                    nextBurst(random), random.nextInt(8)));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,109 @@
+package com.nlbeglov.scheduler.bench;
+
+import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ProcessArena;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.testing.LoadTester;
+import com.nlbeglov.scheduler.testing.PrimitiveBatchEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Полный прогон одной нагрузки: потактово через step, по событиям через fastForward,
+ * через LoadTester.runSingle и через примитивный пакетный движок.
+ * Одна операция — одна симуляция от t=0 до завершения всех процессов.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    @Param({"1000", "100000"})
+    int processCount;
+
+    @Param({"UNIFORM", "HEAVY_TAIL"})
+    BurstDistribution burst;
+
+    @Param({"PREEMPTIVE", "NON_PREEMPTIVE"})
+    SchedulingMode mode;
+
+    @Param({"false", "true"})
+    boolean aging;
+
+    // большой интервал — много одновременно активных фаз старения в ReadyQueue
+    @Param({"5", "20000"})
+    int agingInterval;
+
+    private List<ScheduledProcess> workload;
+    private ProcessArena arena;
+    private SchedulerConfig config;
+    private LoadTester tester;
+    private PrimitiveBatchEngine engine;
+
+    // одна арена на нагрузку: перед каждым вызовом процессы только сбрасываются на месте
+    private SJFWithPriorityScheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = burst.generate(processCount, 42);
+        config = new SchedulerConfig(mode, aging, agingInterval);
+        tester = new LoadTester(42);
+        engine = new PrimitiveBatchEngine();
+        engine.load(workload);
+        arena = new ProcessArena(workload);
+        scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(config);
+        scheduler.setProcesses(arena.processes());
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareScheduler() {
+        scheduler.reset();
+    }
+
+    @Benchmark
+    public SimulationStats tickByTickStep() {
+        for (int time = 0; !scheduler.isFinished(); time++) {
+            scheduler.step(time);
+        }
+        return scheduler.getStatistics();
+    }
+
+    @Benchmark
+    public SimulationStats eventDrivenStep() {
+        for (int time = 0; !scheduler.isFinished(); ) {
+            scheduler.step(time);
+            time = scheduler.fastForward(time + 1);
+        }
+        return scheduler.getStatistics();
+    }
+
+    @Benchmark
+    public SimulationStats loadTesterRunSingle() {
+        return tester.runSingle(arena, config);
+    }
+
+    @Benchmark
+    public SimulationStats primitiveEngineRun() {
+        return engine.run(config);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nlbeglov.scheduler.bench;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.testing.RandomWorkloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Генерация нагрузки и подсчет статистики по готовому списку процессов.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkloadBenchmark {
+
+    @Param({"1000", "100000"})
+    int processCount;
+
+    private RandomWorkloadGenerator generator;
+    private List<ScheduledProcess> finished;
+
+    @Setup
+    public void setUp() {
+        generator = new RandomWorkloadGenerator(42);
+        // времена завершения нужны только для подсчета статистики, сам прогон не важен
+        finished = generator.generate(processCount, processCount * 10, 1, 19, 0, 7);
+        for (ScheduledProcess p : finished) {
+            p.setFinishTime(p.getArrivalTime() + p.getBurstTime() + p.getBasePriority() * 3);
+        }
+    }
+
+    @Benchmark
+    public List<ScheduledProcess> generate() {
+        return generator.generate(processCount, processCount * 10, 1, 19, 0, 7);
+    }
+
+    @Benchmark
+    public SimulationStats fromProcesses() {
+        return SimulationStats.fromProcesses(finished);
+    }
+}
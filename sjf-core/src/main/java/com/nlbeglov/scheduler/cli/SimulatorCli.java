@@ -0,0 +1,280 @@
+package com.nlbeglov.scheduler.cli;
+
+import com.nlbeglov.scheduler.core.FairScheduler;
+import com.nlbeglov.scheduler.core.FcfsPriorityPolicy;
+import com.nlbeglov.scheduler.core.MlfqScheduler;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.core.SchedulingPolicy;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.testing.LoadTester;
+import com.nlbeglov.scheduler.testing.ParameterSweep;
+import com.nlbeglov.scheduler.testing.SweepGrid;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Консольный запуск пакетных прогонов и переборов без JavaFX:
+ * <pre>
+ * java -jar sjf-core.jar run --scheduler=mlfq --runs=200 --processes=100
+ * java -jar sjf-core.jar sweep --out=sweep.csv --processes=50,200 --aging-intervals=2,5,10
+ * </pre>
+ * Опции — в виде --имя=значение, флаг без значения означает true. Ошибка в аргументах — код выхода 2.
+ */
+public final class SimulatorCli {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "usage: sjf-core <command> [--option=value ...]",
+            "",
+            "commands:",
+            "  run    random workloads through one scheduler, prints averaged statistics",
+            "         --scheduler=sjf|fair|mlfq (sjf)  --mode=preemptive|non-preemptive (preemptive)",
+            "         --runs=N (100)  --processes=N (50)  --max-arrival=N (100)",
+            "         --burst=MIN..MAX (1..20)  --priority=MIN..MAX (0..5)  --seed=N",
+            "         sjf only: --aging[=true|false]  --aging-interval=N (5)  --policy=sjf|fcfs (sjf)",
+            "                   --switch-cost=N (0)  --threads=N (1)",
+            "  sweep  parameter sweep into a resumable CSV file",
+            "         --out=FILE (required)  --runs=N (100)  --seed=N  --threads=N (cpus)",
+            "         --modes=preemptive,non-preemptive  --aging-intervals=N,... (5)",
+            "         --processes=N,... (50)  --max-arrival=N,... (100)",
+            "         --burst=MIN..MAX,... (1..20)  --priority=MIN..MAX,... (0..5)",
+            "  help   this message");
+
+    private static final Set<String> RUN_OPTIONS = Set.of("scheduler", "mode", "aging", "aging-interval", "policy",
+            "switch-cost", "runs", "processes", "max-arrival", "burst", "priority", "seed", "threads");
+    // fair и mlfq их не учитывают, поэтому для них такие опции — ошибка, а не тихое игнорирование
+    private static final Set<String> SJF_ONLY_OPTIONS = Set.of("aging", "aging-interval", "policy",
+            "switch-cost", "threads");
+    private static final Set<String> SWEEP_OPTIONS = Set.of("out", "runs", "seed", "threads", "modes",
+            "aging-intervals", "processes", "max-arrival", "burst", "priority");
+
+    private SimulatorCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Выполнить команду; возвращает код выхода: 0 — успех, 1 — ошибка ввода-вывода, 2 — неверные аргументы.
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length == 0) {
+            err.println(USAGE);
+            return 2;
+        }
+        if (args[0].equals("help") || args[0].equals("--help")) {
+            out.println(USAGE);
+            return 0;
+        }
+        String[] rest = Arrays.copyOfRange(args, 1, args.length);
+        try {
+            switch (args[0]) {
+                case "run" -> runBatch(parseOptions(rest, RUN_OPTIONS), out);
+                case "sweep" -> runSweep(parseOptions(rest, SWEEP_OPTIONS), out);
+                default -> throw new IllegalArgumentException("unknown command: " + args[0]);
+            }
+            return 0;
+        } catch (IllegalArgumentException e) {
+            err.println("error: " + e.getMessage());
+            err.println(USAGE);
+            return 2;
+        } catch (IOException e) {
+            err.println("error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static void runBatch(Map<String, String> options, PrintStream out) {
+        String scheduler = options.getOrDefault("scheduler", "sjf");
+        if (!Set.of("sjf", "fair", "mlfq").contains(scheduler)) {
+            throw new IllegalArgumentException("unknown scheduler: " + scheduler);
+        }
+        if (!scheduler.equals("sjf")) {
+            for (String name : options.keySet()) {
+                if (SJF_ONLY_OPTIONS.contains(name)) {
+                    throw new IllegalArgumentException("--" + name + " applies only to --scheduler=sjf");
+                }
+            }
+        }
+        int runs = intOption(options, "runs", 100);
+        int processes = intOption(options, "processes", 50);
+        int maxArrival = intOption(options, "max-arrival", 100);
+        int[] burst = range("burst", options.getOrDefault("burst", "1..20"));
+        int[] priority = range("priority", options.getOrDefault("priority", "0..5"));
+        int threads = intOption(options, "threads", 1);
+        if (runs <= 0) {
+            throw new IllegalArgumentException("--runs must be positive: " + runs);
+        }
+        SchedulerConfig config = new SchedulerConfig(
+                mode(options.getOrDefault("mode", "preemptive")),
+                booleanOption(options, "aging"),
+                intOption(options, "aging-interval", 5),
+                policy(options.getOrDefault("policy", "sjf")),
+                intOption(options, "switch-cost", 0));
+        LoadTester tester = options.containsKey("seed")
+                ? new LoadTester(longOption(options, "seed")) : new LoadTester();
+
+        long started = System.nanoTime();
+        List<SimulationStats> results = switch (scheduler) {
+            case "sjf" -> tester.runMany(runs, processes, maxArrival, burst[0], burst[1],
+                    priority[0], priority[1], config, threads);
+            case "fair" -> tester.runMany(new FairScheduler(), runs, processes, maxArrival, burst[0], burst[1],
+                    priority[0], priority[1], config);
+            case "mlfq" -> tester.runMany(new MlfqScheduler(), runs, processes, maxArrival, burst[0], burst[1],
+                    priority[0], priority[1], config);
+            default -> throw new IllegalArgumentException("unknown scheduler: " + scheduler);
+        };
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        double waiting = 0;
+        double turnaround = 0;
+        double p99 = 0;
+        int maxWaiting = 0;
+        long switches = 0;
+        long preemptions = 0;
+        long idle = 0;
+        long overhead = 0;
+        for (SimulationStats s : results) {
+            waiting += s.getAvgWaitingTime();
+            turnaround += s.getAvgTurnaroundTime();
+            p99 += s.getWaiting().getP99();
+            maxWaiting = Math.max(maxWaiting, s.getMaxWaitingTime());
+            switches += s.getContextSwitches();
+            preemptions += s.getPreemptions();
+            idle += s.getIdleTicks();
+            overhead += s.getOverheadTicks();
+        }
+        if (scheduler.equals("sjf")) {
+            out.printf(Locale.ROOT, "scheduler=%s mode=%s aging=%s interval=%d switchCost=%d seed=%d runs=%d%n",
+                    scheduler, config.getMode(), config.isAgingEnabled(), config.getAgingInterval(),
+                    config.getContextSwitchCost(), tester.getSeed(), runs);
+        } else {
+            out.printf(Locale.ROOT, "scheduler=%s mode=%s seed=%d runs=%d%n",
+                    scheduler, config.getMode(), tester.getSeed(), runs);
+        }
+        out.printf(Locale.ROOT, "avgWaiting=%.4f avgTurnaround=%.4f p99Waiting=%.2f maxWaiting=%d%n",
+                waiting / runs, turnaround / runs, p99 / runs, maxWaiting);
+        out.printf(Locale.ROOT, "contextSwitches=%.2f preemptions=%.2f idleTicks=%.2f overheadTicks=%.2f (per run)%n",
+                (double) switches / runs, (double) preemptions / runs, (double) idle / runs, (double) overhead / runs);
+        out.printf(Locale.ROOT, "elapsed=%d ms%n", elapsedMillis);
+    }
+
+    private static void runSweep(Map<String, String> options, PrintStream out) throws IOException {
+        String file = options.get("out");
+        if (file == null) {
+            throw new IllegalArgumentException("sweep needs --out=FILE");
+        }
+        List<SchedulingMode> modes = new ArrayList<>();
+        for (String m : list(options.getOrDefault("modes", "preemptive,non-preemptive"))) {
+            modes.add(mode(m));
+        }
+        SweepGrid grid = new SweepGrid(modes, List.of(false, true),
+                Arrays.stream(ints("aging-intervals", options.getOrDefault("aging-intervals", "5"))).boxed().toList(),
+                SweepGrid.shapes(
+                        ints("processes", options.getOrDefault("processes", "50")),
+                        ints("max-arrival", options.getOrDefault("max-arrival", "100")),
+                        ranges("burst", options.getOrDefault("burst", "1..20")),
+                        ranges("priority", options.getOrDefault("priority", "0..5"))));
+        long seed = options.containsKey("seed") ? longOption(options, "seed") : new LoadTester().getSeed();
+        ParameterSweep sweep = new ParameterSweep(seed, intOption(options, "runs", 100),
+                intOption(options, "threads", Runtime.getRuntime().availableProcessors()));
+        int computed = sweep.run(grid, Path.of(file));
+        out.printf(Locale.ROOT, "%d of %d cells computed, seed=%d, results in %s%n",
+                computed, grid.size(), seed, file);
+    }
+
+    static Map<String, String> parseOptions(String[] args, Set<String> known) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("expected --option[=value], got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg.substring(2) : arg.substring(2, eq);
+            if (!known.contains(name)) {
+                throw new IllegalArgumentException("unknown option: --" + name);
+            }
+            options.put(name, eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static SchedulingMode mode(String value) {
+        return switch (value) {
+            case "preemptive" -> SchedulingMode.PREEMPTIVE;
+            case "non-preemptive" -> SchedulingMode.NON_PREEMPTIVE;
+            default -> throw new IllegalArgumentException("unknown mode: " + value);
+        };
+    }
+
+    private static SchedulingPolicy policy(String value) {
+        return switch (value) {
+            case "sjf" -> SchedulingPolicy.DEFAULT;
+            case "fcfs" -> FcfsPriorityPolicy.INSTANCE;
+            default -> throw new IllegalArgumentException("unknown policy: " + value);
+        };
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : parseInt(name, value);
+    }
+
+    // флаг без значения уже превращен в "true"; все, кроме true/false, — ошибка
+    private static boolean booleanOption(Map<String, String> options, String name) {
+        String value = options.getOrDefault(name, "false");
+        return switch (value) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("--" + name + " expects true or false: " + value);
+        };
+    }
+
+    private static long longOption(Map<String, String> options, String name) {
+        try {
+            return Long.parseLong(options.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " expects a number: " + options.get(name));
+        }
+    }
+
+    private static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " expects a number: " + value);
+        }
+    }
+
+    private static List<String> list(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).toList();
+    }
+
+    private static int[] ints(String name, String value) {
+        return list(value).stream().mapToInt(v -> parseInt(name, v)).toArray();
+    }
+
+    // MIN..MAX или одно число
+    private static int[] range(String name, String value) {
+        int dots = value.indexOf("..");
+        if (dots < 0) {
+            int v = parseInt(name, value);
+            return new int[]{v, v};
+        }
+        return new int[]{parseInt(name, value.substring(0, dots)), parseInt(name, value.substring(dots + 2))};
+    }
+
+    private static int[][] ranges(String name, String value) {
+        return list(value).stream().map(v -> range(name, v)).toArray(int[][]::new);
+    }
+}
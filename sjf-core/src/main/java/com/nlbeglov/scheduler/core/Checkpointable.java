@@ -0,0 +1,17 @@
+package com.nlbeglov.scheduler.core;
+
+/**
+ * Планировщик, умеющий сохранять и восстанавливать полное состояние между шагами.
+ */
+public interface Checkpointable {
+
+    /**
+     * Контрольная точка полного состояния между шагами (см. SchedulerCheckpoint).
+     */
+    SchedulerCheckpoint checkpoint();
+
+    /**
+     * Вернуть планировщик к контрольной точке, взятой у планировщика того же типа.
+     */
+    void restore(SchedulerCheckpoint checkpoint);
+}
@@ -0,0 +1,265 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ProcessArena;
+import com.nlbeglov.scheduler.model.ProcessState;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.model.StatsAccumulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Справедливый планировщик в духе CFS. Каждый процесс копит виртуальное время выполнения:
+ * такт CPU добавляет к нему 1024 · 1.25^basePriority, то есть важные процессы (меньший приоритет)
+ * «стареют» медленнее и получают большую долю CPU. Выполняется готовый процесс с наименьшим
+ * vruntime — вершина ReadyHeap, O(log n).
+ * <p>
+ * В вытесняющем режиме процесс отдает CPU, если проработал не меньше minGranularity тактов
+ * и его vruntime догнал наименьший в очереди (при равенстве CPU уступается ждущему);
+ * granularity ограничивает частоту переключений.
+ * Новый процесс встает на квант позади текущего минимального vruntime (как START_DEBIT в CFS):
+ * с самим минимумом поток новых процессов бесконечно откладывал бы уже работавшие.
+ * Старение из SchedulerConfig не применяется — справедливость обеспечивает сам vruntime.
+ */
+public class FairScheduler implements Scheduler {
+
+    // вес приоритета 0 в единицах vruntime за такт
+    private static final long NICE_0_STEP = 1024;
+
+    private final int minGranularity;
+    private SchedulerConfig config = SchedulerConfig.defaultConfig();
+
+    private List<ScheduledProcess> allProcesses = new ArrayList<>();
+    private long[] vruntime = new long[0];
+    private long[] step = new long[0]; // прирост vruntime за такт
+    // готовые процессы, ключ — vruntime; при равенстве раньше прибывший
+    private final ReadyHeap ready = new ReadyHeap(16);
+    private final StatsAccumulator stats = new StatsAccumulator();
+    private SchedulerEventListener events = SchedulerEventListener.NONE;
+
+    private ScheduledProcess current;
+    private int currentHandle = -1;
+    private int dispatchTime;
+    private long minVruntime;
+    private int nextArrival;
+    private int finishedCount;
+    private boolean finished;
+
+    public FairScheduler() {
+        this(3);
+    }
+
+    /**
+     * @param minGranularity сколько тактов процесс выполняется до того, как его можно вытеснить
+     */
+    public FairScheduler(int minGranularity) {
+        if (minGranularity < 1) {
+            throw new IllegalArgumentException("minGranularity must be at least 1: " + minGranularity);
+        }
+        this.minGranularity = minGranularity;
+    }
+
+    public int getMinGranularity() {
+        return minGranularity;
+    }
+
+    /**
+     * Прирост vruntime за такт для базового приоритета: 1024 · 1.25^priority (приоритет ограничен [-20, 40]).
+     */
+    public static long vruntimeStep(int basePriority) {
+        int p = Math.max(-20, Math.min(40, basePriority));
+        return Math.max(1, Math.round(NICE_0_STEP * Math.pow(1.25, p)));
+    }
+
+    @Override
+    public void setConfig(SchedulerConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void setEventListener(SchedulerEventListener listener) {
+        this.events = listener != null ? listener : SchedulerEventListener.NONE;
+    }
+
+    @Override
+    public void setProcesses(List<ScheduledProcess> processes) {
+        List<ScheduledProcess> ordered = ProcessArena.inArrivalOrder(processes);
+        if (ordered != allProcesses) {
+            this.allProcesses = ordered;
+            int n = allProcesses.size();
+            vruntime = new long[n];
+            step = new long[n];
+            for (int i = 0; i < n; i++) {
+                step[i] = vruntimeStep(allProcesses.get(i).getBasePriority());
+            }
+        }
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        for (ScheduledProcess p : allProcesses) {
+            p.resetRuntime();
+        }
+        Arrays.fill(vruntime, 0);
+        ready.clear();
+        stats.clear();
+        current = null;
+        currentHandle = -1;
+        dispatchTime = 0;
+        minVruntime = 0;
+        nextArrival = 0;
+        finishedCount = 0;
+        finished = allProcesses.isEmpty();
+    }
+
+    @Override
+    public ScheduledProcess step(int time) {
+        if (finished) return null;
+
+        while (nextArrival < allProcesses.size() && allProcesses.get(nextArrival).getArrivalTime() <= time) {
+            ScheduledProcess p = allProcesses.get(nextArrival);
+            vruntime[nextArrival] = currentMinVruntime(time) + minGranularity * step[nextArrival];
+            p.enterReady(p.getArrivalTime());
+            ready.add(nextArrival, vruntime[nextArrival]);
+            nextArrival++;
+            events.onArrival(p.getArrivalTime(), p);
+        }
+
+        if (current == null) {
+            if (!ready.isEmpty()) {
+                dispatch(time);
+            }
+        } else if (config.getMode() == SchedulingMode.PREEMPTIVE && shouldPreempt(time)) {
+            ScheduledProcess preempted = current;
+            int preemptedHandle = currentHandle;
+            vruntime[preemptedHandle] = runningVruntime(time);
+            stats.recordPreemption();
+            events.onPreempt(time, 0, preempted);
+            dispatch(time);
+            preempted.enterReady(time);
+            ready.add(preemptedHandle, vruntime[preemptedHandle]);
+        }
+
+        ScheduledProcess ran = current;
+        if (ran == null) {
+            stats.recordIdle(1);
+            checkFinished();
+            return null;
+        }
+        ran.decrementRemainingTime();
+        if (ran.isFinished()) {
+            finishCurrent(time + 1);
+        }
+        return ran;
+    }
+
+    @Override
+    public int fastForward(int time) {
+        if (finished) return time;
+        int next = nextArrival < allProcesses.size()
+                ? allProcesses.get(nextArrival).getArrivalTime() : Integer.MAX_VALUE;
+        if (current == null) {
+            if (ready.isEmpty() && next != Integer.MAX_VALUE && next > time) {
+                stats.recordIdle(next - time);
+                return next;
+            }
+            return time;
+        }
+        next = Math.min(next, time + current.getRemainingTime());
+        if (config.getMode() == SchedulingMode.PREEMPTIVE) {
+            next = Math.min(next, preemptionTime(time));
+        }
+        next = Math.max(next, time);
+        if (next > time) {
+            current.decrementRemainingTime(next - time);
+            if (current.isFinished()) {
+                finishCurrent(next);
+            }
+        }
+        return next;
+    }
+
+    // vruntime выполняющегося процесса в начале такта time
+    private long runningVruntime(int time) {
+        return vruntime[currentHandle] + (time - dispatchTime) * step[currentHandle];
+    }
+
+    // минимальный vruntime среди процессов в системе; не убывает
+    private long currentMinVruntime(int time) {
+        long min = Long.MAX_VALUE;
+        if (current != null) {
+            min = runningVruntime(time);
+        }
+        if (!ready.isEmpty()) {
+            min = Math.min(min, ready.peekKey());
+        }
+        if (min != Long.MAX_VALUE) {
+            minVruntime = Math.max(minVruntime, min);
+        }
+        return minVruntime;
+    }
+
+    private boolean shouldPreempt(int time) {
+        return !ready.isEmpty()
+                && time - dispatchTime >= minGranularity
+                && ready.peekKey() <= runningVruntime(time);
+    }
+
+    // первый момент не раньше time, в который shouldPreempt станет истинным, если очередь не изменится
+    private int preemptionTime(int time) {
+        if (ready.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        long gap = ready.peekKey() - vruntime[currentHandle];
+        long ticks = gap <= 0 ? 0 : (gap + step[currentHandle] - 1) / step[currentHandle];
+        long at = Math.max((long) dispatchTime + minGranularity, dispatchTime + ticks);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(at, time));
+    }
+
+    private void dispatch(int time) {
+        int handle = ready.poll();
+        current = allProcesses.get(handle);
+        currentHandle = handle;
+        dispatchTime = time;
+        current.leaveReady(time);
+        current.setStartTimeIfNotSet(time);
+        current.setState(ProcessState.RUNNING);
+        stats.recordContextSwitch();
+        events.onDispatch(time, 0, current);
+    }
+
+    private void finishCurrent(int finishTime) {
+        ScheduledProcess done = current;
+        vruntime[currentHandle] = runningVruntime(finishTime);
+        done.setFinishTime(finishTime);
+        done.setState(ProcessState.FINISHED);
+        stats.record(done);
+        current = null;
+        currentHandle = -1;
+        finishedCount++;
+        checkFinished();
+        events.onComplete(finishTime, 0, done);
+    }
+
+    private void checkFinished() {
+        finished = finishedCount == allProcesses.size();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public List<ScheduledProcess> getAllProcesses() {
+        return allProcesses;
+    }
+
+    @Override
+    public SimulationStats getStatistics() {
+        return stats.toStats();
+    }
+}
@@ -0,0 +1,23 @@
+package com.nlbeglov.scheduler.core;
+
+/**
+ * Приоритетное планирование без учета длительности: внутри приоритета — по порядку прибытия.
+ * Вытесняет только строго более приоритетный процесс.
+ */
+public final class FcfsPriorityPolicy implements SchedulingPolicy {
+
+    public static final FcfsPriorityPolicy INSTANCE = new FcfsPriorityPolicy();
+
+    private FcfsPriorityPolicy() {
+    }
+
+    @Override
+    public int tieBreak(int remainingTime) {
+        return 0;
+    }
+
+    @Override
+    public boolean preempts(long candidateKey, long currentKey) {
+        return ReadyHeap.priorityOf(candidateKey) < ReadyHeap.priorityOf(currentKey);
+    }
+}
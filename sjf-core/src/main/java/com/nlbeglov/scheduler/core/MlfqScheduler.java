@@ -0,0 +1,364 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ProcessArena;
+import com.nlbeglov.scheduler.model.ProcessState;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.model.StatsAccumulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Многоуровневая очередь с обратной связью (MLFQ). Длительность процессов планировщику
+ * не известна: новый процесс попадает на верхний уровень 0, а исчерпав квант своего уровня,
+ * опускается на уровень ниже. Каждые boostInterval тактов все процессы возвращаются на
+ * верхний уровень, поэтому длинные задачи не голодают. Внутри уровня — очередь по кругу.
+ * <p>
+ * Уровни — кольцевые очереди дескрипторов в массивах, непустые уровни отмечены битами маски,
+ * так что выбор процесса — O(1) при любом числе процессов.
+ * В вытесняющем режиме процесс с более высокого уровня прерывает выполняющийся; прерванный
+ * встает в начало своего уровня и сохраняет израсходованную часть кванта. В невытесняющем режиме
+ * процесс отдает CPU только по истечении кванта. Старение из SchedulerConfig не применяется —
+ * его роль играет периодический подъем.
+ */
+public class MlfqScheduler implements Scheduler {
+
+    private static final int[] DEFAULT_QUANTA = {2, 4, 8};
+    private static final int DEFAULT_BOOST_INTERVAL = 100;
+
+    private final int[] quanta;
+    private final int boostInterval;
+    private SchedulerConfig config = SchedulerConfig.defaultConfig();
+
+    private List<ScheduledProcess> allProcesses = new ArrayList<>();
+    // дескриптор — индекс в allProcesses (порядок прибытия)
+    private int[] level = new int[0];
+    private int[] used = new int[0]; // тактов кванта, израсходованных на текущем уровне
+    private final HandleRing[] queues;
+    private long nonEmpty; // бит i — уровень i не пуст
+    private int readyCount;
+    private final StatsAccumulator stats = new StatsAccumulator();
+    private SchedulerEventListener events = SchedulerEventListener.NONE;
+
+    private ScheduledProcess current;
+    private int currentHandle = -1;
+    private int nextArrival;
+    private int finishedCount;
+    private boolean finished;
+
+    public MlfqScheduler() {
+        this(DEFAULT_QUANTA, DEFAULT_BOOST_INTERVAL);
+    }
+
+    /**
+     * @param quanta        квант каждого уровня в тактах, от верхнего к нижнему (1..64 уровней)
+     * @param boostInterval период подъема всех процессов на верхний уровень; 0 — без подъема
+     */
+    public MlfqScheduler(int[] quanta, int boostInterval) {
+        if (quanta.length == 0 || quanta.length > Long.SIZE) {
+            throw new IllegalArgumentException("level count must be in [1, 64]: " + quanta.length);
+        }
+        for (int q : quanta) {
+            if (q < 1) {
+                throw new IllegalArgumentException("quantum must be at least 1: " + Arrays.toString(quanta));
+            }
+        }
+        if (boostInterval < 0) {
+            throw new IllegalArgumentException("boostInterval must not be negative: " + boostInterval);
+        }
+        this.quanta = quanta.clone();
+        this.boostInterval = boostInterval;
+        this.queues = new HandleRing[quanta.length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new HandleRing();
+        }
+    }
+
+    public int getLevelCount() {
+        return quanta.length;
+    }
+
+    public int getQuantum(int level) {
+        return quanta[level];
+    }
+
+    public int getBoostInterval() {
+        return boostInterval;
+    }
+
+    @Override
+    public void setConfig(SchedulerConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void setEventListener(SchedulerEventListener listener) {
+        this.events = listener != null ? listener : SchedulerEventListener.NONE;
+    }
+
+    @Override
+    public void setProcesses(List<ScheduledProcess> processes) {
+        List<ScheduledProcess> ordered = ProcessArena.inArrivalOrder(processes);
+        if (ordered != allProcesses) {
+            this.allProcesses = ordered;
+            level = new int[allProcesses.size()];
+            used = new int[allProcesses.size()];
+        }
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        for (ScheduledProcess p : allProcesses) {
+            p.resetRuntime();
+        }
+        Arrays.fill(level, 0);
+        Arrays.fill(used, 0);
+        for (HandleRing q : queues) {
+            q.clear();
+        }
+        nonEmpty = 0;
+        readyCount = 0;
+        stats.clear();
+        current = null;
+        currentHandle = -1;
+        nextArrival = 0;
+        finishedCount = 0;
+        finished = allProcesses.isEmpty();
+    }
+
+    @Override
+    public ScheduledProcess step(int time) {
+        if (finished) return null;
+
+        if (boostInterval > 0 && time > 0 && time % boostInterval == 0) {
+            boost();
+        }
+
+        while (nextArrival < allProcesses.size() && allProcesses.get(nextArrival).getArrivalTime() <= time) {
+            ScheduledProcess p = allProcesses.get(nextArrival);
+            p.enterReady(p.getArrivalTime());
+            level[nextArrival] = 0;
+            used[nextArrival] = 0;
+            pushBack(nextArrival);
+            nextArrival++;
+            events.onArrival(p.getArrivalTime(), p);
+        }
+
+        if (current != null) {
+            int h = currentHandle;
+            if (used[h] >= quanta[level[h]]) {
+                // квант исчерпан: уровнем ниже и в конец его очереди, если там или выше кто-то ждет
+                level[h] = Math.min(level[h] + 1, quanta.length - 1);
+                used[h] = 0;
+                if (readyCount > 0 && Long.numberOfTrailingZeros(nonEmpty) <= level[h]) {
+                    switchFrom(time, false);
+                }
+            } else if (config.getMode() == SchedulingMode.PREEMPTIVE && readyCount > 0
+                    && Long.numberOfTrailingZeros(nonEmpty) < level[h]) {
+                switchFrom(time, true);
+            }
+        } else if (readyCount > 0) {
+            dispatch(time);
+        }
+
+        ScheduledProcess ran = current;
+        if (ran == null) {
+            stats.recordIdle(1);
+            checkFinished();
+            return null;
+        }
+        ran.decrementRemainingTime();
+        used[currentHandle]++;
+        if (ran.isFinished()) {
+            finishCurrent(time + 1);
+        }
+        return ran;
+    }
+
+    @Override
+    public int fastForward(int time) {
+        if (finished) return time;
+        int next = nextArrival < allProcesses.size()
+                ? allProcesses.get(nextArrival).getArrivalTime() : Integer.MAX_VALUE;
+        if (current == null) {
+            if (readyCount == 0 && next != Integer.MAX_VALUE && next > time) {
+                stats.recordIdle(next - time);
+                return next;
+            }
+            return time;
+        }
+        // точки решения: прибытие, завершение, конец кванта, подъем
+        next = Math.min(next, time + current.getRemainingTime());
+        next = Math.min(next, time + quanta[level[currentHandle]] - used[currentHandle]);
+        if (boostInterval > 0) {
+            next = Math.min(next, Math.max(boostInterval, (time + boostInterval - 1) / boostInterval * boostInterval));
+        }
+        next = Math.max(next, time);
+        if (next > time) {
+            current.decrementRemainingTime(next - time);
+            used[currentHandle] += next - time;
+            if (current.isFinished()) {
+                finishCurrent(next);
+            }
+        }
+        return next;
+    }
+
+    // все процессы — на верхний уровень с полным квантом; порядок внутри сохраняется: сверху вниз
+    private void boost() {
+        for (int l = 1; l < queues.length; l++) {
+            HandleRing q = queues[l];
+            while (!q.isEmpty()) {
+                int h = q.pollFirst();
+                level[h] = 0;
+                queues[0].addLast(h);
+            }
+        }
+        if (readyCount > 0) {
+            nonEmpty = 1;
+        }
+        for (int i = 0; i < queues[0].size(); i++) {
+            used[queues[0].get(i)] = 0;
+        }
+        if (current != null) {
+            level[currentHandle] = 0;
+            used[currentHandle] = 0;
+        }
+    }
+
+    // preempted: прерван более важным — в начало своего уровня; иначе квант истек — в конец
+    private void switchFrom(int time, boolean preempted) {
+        ScheduledProcess p = current;
+        int h = currentHandle;
+        stats.recordPreemption();
+        events.onPreempt(time, 0, p);
+        dispatch(time);
+        p.enterReady(time);
+        if (preempted) {
+            pushFront(h);
+        } else {
+            pushBack(h);
+        }
+    }
+
+    private void dispatch(int time) {
+        int l = Long.numberOfTrailingZeros(nonEmpty);
+        int h = queues[l].pollFirst();
+        if (queues[l].isEmpty()) {
+            nonEmpty &= ~(1L << l);
+        }
+        readyCount--;
+        current = allProcesses.get(h);
+        currentHandle = h;
+        current.leaveReady(time);
+        current.setStartTimeIfNotSet(time);
+        current.setState(ProcessState.RUNNING);
+        stats.recordContextSwitch();
+        events.onDispatch(time, 0, current);
+    }
+
+    private void pushBack(int handle) {
+        queues[level[handle]].addLast(handle);
+        nonEmpty |= 1L << level[handle];
+        readyCount++;
+    }
+
+    private void pushFront(int handle) {
+        queues[level[handle]].addFirst(handle);
+        nonEmpty |= 1L << level[handle];
+        readyCount++;
+    }
+
+    private void finishCurrent(int finishTime) {
+        ScheduledProcess done = current;
+        done.setFinishTime(finishTime);
+        done.setState(ProcessState.FINISHED);
+        stats.record(done);
+        current = null;
+        currentHandle = -1;
+        finishedCount++;
+        checkFinished();
+        events.onComplete(finishTime, 0, done);
+    }
+
+    private void checkFinished() {
+        finished = finishedCount == allProcesses.size();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public List<ScheduledProcess> getAllProcesses() {
+        return allProcesses;
+    }
+
+    @Override
+    public SimulationStats getStatistics() {
+        return stats.toStats();
+    }
+
+    /**
+     * Кольцевая очередь дескрипторов с вставкой с обоих концов; емкость удваивается при заполнении.
+     */
+    private static final class HandleRing {
+        private int[] items = new int[8];
+        private int head;
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(int i) {
+            return items[(head + i) & (items.length - 1)];
+        }
+
+        void addLast(int handle) {
+            if (size == items.length) {
+                grow();
+            }
+            items[(head + size) & (items.length - 1)] = handle;
+            size++;
+        }
+
+        void addFirst(int handle) {
+            if (size == items.length) {
+                grow();
+            }
+            head = (head - 1) & (items.length - 1);
+            items[head] = handle;
+            size++;
+        }
+
+        int pollFirst() {
+            int handle = items[head];
+            head = (head + 1) & (items.length - 1);
+            size--;
+            return handle;
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+
+        private void grow() {
+            int[] bigger = new int[items.length * 2];
+            for (int i = 0; i < size; i++) {
+                bigger[i] = get(i);
+            }
+            items = bigger;
+            head = 0;
+        }
+    }
+}
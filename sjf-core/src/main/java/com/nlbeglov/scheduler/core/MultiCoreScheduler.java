@@ -0,0 +1,341 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ProcessArena;
+import com.nlbeglov.scheduler.model.ProcessState;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.model.StatsAccumulator;
+
+import java.util.*;
+
+/**
+ * Планировщик для N процессоров с той же политикой «приоритет, затем SJF», что и SJFWithPriorityScheduler.
+ * <p>
+ * У каждого ядра своя очередь готовых процессов. Поступивший процесс попадает на наименее
+ * загруженное ядро, вытесненный возвращается в очередь своего ядра. Ядро, которому нечего
+ * выполнять, забирает лучший процесс из самой длинной чужой очереди (work stealing).
+ * Выполнение процесса на другом ядре, чем в прошлый раз, считается миграцией.
+ * <p>
+ * Каждая выдача CPU, в том числе процессу, украденному с чужого ядра, стоит
+ * SchedulerConfig.getContextSwitchCost() тактов этого ядра; пока переключение не закончилось,
+ * процесс на ядре не вытесняется. Простой в статистике считается в ядро-тактах.
+ */
+public class MultiCoreScheduler implements Scheduler {
+
+    private final int coreCount;
+    private SchedulerConfig config = SchedulerConfig.defaultConfig();
+
+    private List<ScheduledProcess> allProcesses = new ArrayList<>();
+    private int[] lastCore = new int[0]; // ядро, на котором процесс выполнялся последним
+
+    private final ReadyQueue[] queues;
+    private final int[] currentHandle;
+    private final int[] switchEnd; // до этого такта (не включая) ядро занято переключением контекста
+    private final long[] busyTicks;
+    private final ScheduledProcess[] stepBuffer; // для step(time), чтобы не выделять массив на каждом такте
+    private final long[] migrationsIn;
+    private long migrations;
+
+    private int nextArrival;
+    private int finishedCount;
+    private final StatsAccumulator stats = new StatsAccumulator();
+    private SchedulerEventListener events = SchedulerEventListener.NONE;
+    private int time;
+    private boolean finished;
+
+    public MultiCoreScheduler(int coreCount) {
+        if (coreCount < 1) {
+            throw new IllegalArgumentException("coreCount must be positive: " + coreCount);
+        }
+        this.coreCount = coreCount;
+        this.queues = new ReadyQueue[coreCount];
+        for (int c = 0; c < coreCount; c++) {
+            queues[c] = new ReadyQueue();
+        }
+        this.currentHandle = new int[coreCount];
+        this.switchEnd = new int[coreCount];
+        this.busyTicks = new long[coreCount];
+        this.stepBuffer = new ScheduledProcess[coreCount];
+        this.migrationsIn = new long[coreCount];
+        Arrays.fill(currentHandle, -1);
+    }
+
+    @Override
+    public int getCoreCount() {
+        return coreCount;
+    }
+
+    @Override
+    public void setConfig(SchedulerConfig config) {
+        this.config = config;
+        for (ReadyQueue q : queues) {
+            q.configure(config.getPolicy(), config.isAgingEnabled(), config.getAgingInterval());
+        }
+        for (int i = 0; i < nextArrival; i++) {
+            if (allProcesses.get(i).getState() == ProcessState.READY) {
+                enqueue(Math.max(lastCore[i], 0), i);
+            }
+        }
+    }
+
+    @Override
+    public void setEventListener(SchedulerEventListener listener) {
+        this.events = listener != null ? listener : SchedulerEventListener.NONE;
+    }
+
+    @Override
+    public void setProcesses(List<ScheduledProcess> processes) {
+        List<ScheduledProcess> ordered = ProcessArena.inArrivalOrder(processes);
+        if (ordered != allProcesses) {
+            this.allProcesses = ordered;
+            this.lastCore = new int[allProcesses.size()];
+        }
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        for (ScheduledProcess p : allProcesses) {
+            p.resetRuntime();
+        }
+        Arrays.fill(lastCore, -1);
+        for (ReadyQueue q : queues) {
+            q.clear();
+        }
+        Arrays.fill(currentHandle, -1);
+        Arrays.fill(switchEnd, 0);
+        Arrays.fill(busyTicks, 0);
+        Arrays.fill(migrationsIn, 0);
+        migrations = 0;
+        nextArrival = 0;
+        finishedCount = 0;
+        stats.clear();
+        time = 0;
+        finished = false;
+    }
+
+    /**
+     * Возвращает процесс ядра 0; процессы всех ядер — через step(time, running).
+     */
+    @Override
+    public ScheduledProcess step(int time) {
+        step(time, stepBuffer);
+        return stepBuffer[0];
+    }
+
+    @Override
+    public void step(int time, ScheduledProcess[] running) {
+        this.time = time;
+        Arrays.fill(running, 0, coreCount, null);
+        if (finished) return;
+
+        while (nextArrival < allProcesses.size()
+                && allProcesses.get(nextArrival).getArrivalTime() <= time) {
+            ScheduledProcess p = allProcesses.get(nextArrival);
+            p.enterReady(p.getArrivalTime());
+            enqueue(leastLoadedCore(), nextArrival);
+            nextArrival++;
+            events.onArrival(p.getArrivalTime(), p);
+        }
+
+        // сначала каждое ядро решает по своей очереди, затем простаивающие воруют у загруженных
+        boolean preemptive = config.getMode() == SchedulingMode.PREEMPTIVE;
+        for (int c = 0; c < coreCount; c++) {
+            if (currentHandle[c] >= 0 && !preemptive) {
+                continue;
+            }
+            ReadyQueue q = queues[c];
+            int candidate = q.peek(time);
+            if (candidate < 0) {
+                continue;
+            }
+            int cur = currentHandle[c];
+            if (cur >= 0 && time <= switchEnd[c]) {
+                continue;
+            }
+            if (cur < 0 || config.getPolicy().preempts(q.peekKey(), config.getPolicy().key(
+                    allProcesses.get(cur).getEffectivePriority(), allProcesses.get(cur).getRemainingTime()))) {
+                if (cur >= 0) {
+                    stats.recordPreemption();
+                    events.onPreempt(time, c, allProcesses.get(cur));
+                }
+                dispatch(c, q);
+                if (cur >= 0) {
+                    allProcesses.get(cur).enterReady(time);
+                    enqueue(c, cur);
+                }
+            }
+        }
+        for (int c = 0; c < coreCount; c++) {
+            if (currentHandle[c] < 0) {
+                int victim = busiestQueue();
+                if (victim < 0) {
+                    break;
+                }
+                dispatch(c, queues[victim]);
+            }
+        }
+
+        for (int c = 0; c < coreCount; c++) {
+            running[c] = execute(c, time, 1);
+        }
+        checkFinished();
+    }
+
+    @Override
+    public int fastForward(int time) {
+        if (finished) return time;
+        int next = Integer.MAX_VALUE;
+        if (nextArrival < allProcesses.size()) {
+            next = allProcesses.get(nextArrival).getArrivalTime();
+        }
+        boolean idleCore = false;
+        boolean preemptive = config.getMode() == SchedulingMode.PREEMPTIVE;
+        for (int c = 0; c < coreCount; c++) {
+            int cur = currentHandle[c];
+            if (cur < 0) {
+                idleCore = true;
+                continue;
+            }
+            int completion = Math.max(switchEnd[c], time) + Math.max(allProcesses.get(cur).getRemainingTime(), 1);
+            next = Math.min(next, completion);
+            if (preemptive) {
+                next = Math.min(next, queues[c].nextAgingTime(time));
+                if (switchEnd[c] + 1 >= time && config.getContextSwitchCost() > 0) {
+                    // с такта после switchEnd процесс на ядре снова можно вытеснить
+                    next = Math.min(next, switchEnd[c] + 1);
+                }
+            }
+        }
+        // простаивающее ядро может украсть работу уже сейчас
+        if (next == Integer.MAX_VALUE || (idleCore && busiestQueue() >= 0)) {
+            return time;
+        }
+        if (next > time) {
+            for (int c = 0; c < coreCount; c++) {
+                execute(c, time, next - time);
+            }
+            checkFinished();
+        }
+        return next;
+    }
+
+    public long getMigrations() {
+        return migrations;
+    }
+
+    /**
+     * Сколько раз процессы переезжали на ядро core с другого ядра.
+     */
+    public long getMigrationsTo(int core) {
+        return migrationsIn[core];
+    }
+
+    public long getBusyTicks(int core) {
+        return busyTicks[core];
+    }
+
+    /**
+     * Доля тактов [0, elapsed), в которые ядро было занято.
+     */
+    public double getUtilization(int core, int elapsed) {
+        return elapsed <= 0 ? 0 : busyTicks[core] * 1.0 / elapsed;
+    }
+
+    private int leastLoadedCore() {
+        int best = 0;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int c = 0; c < coreCount; c++) {
+            int load = queues[c].size() + (currentHandle[c] >= 0 ? 1 : 0);
+            if (load < bestLoad) {
+                bestLoad = load;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private int busiestQueue() {
+        int best = -1;
+        int bestSize = 0;
+        for (int c = 0; c < coreCount; c++) {
+            if (queues[c].size() > bestSize) {
+                bestSize = queues[c].size();
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private void enqueue(int core, int handle) {
+        ScheduledProcess p = allProcesses.get(handle);
+        int origin = p.getReadySince() - p.getAccumulatedWaitingTime();
+        queues[core].add(handle, p.getBasePriority(), p.getRemainingTime(), origin, time);
+    }
+
+    private void dispatch(int core, ReadyQueue from) {
+        int handle = from.poll(time);
+        ScheduledProcess p = allProcesses.get(handle);
+        if (lastCore[handle] >= 0 && lastCore[handle] != core) {
+            migrations++;
+            migrationsIn[core]++;
+        }
+        lastCore[handle] = core;
+        currentHandle[core] = handle;
+        p.leaveReady(time);
+        int oldPriority = p.getEffectivePriority();
+        p.setEffectivePriority(from.peekPriority());
+        if (p.getEffectivePriority() != oldPriority) {
+            events.onPriorityAged(time, p, oldPriority);
+        }
+        p.setStartTimeIfNotSet(time);
+        p.setState(ProcessState.RUNNING);
+        switchEnd[core] = time + config.getContextSwitchCost();
+        stats.recordContextSwitch();
+        events.onDispatch(time, core, p);
+    }
+
+    // выполнить текущий процесс ядра на тактах [from, from + ticks); вернуть его (или null при простое).
+    // Такты до switchEnd уходят на переключение контекста и не уменьшают остаток
+    private ScheduledProcess execute(int core, int from, int ticks) {
+        int handle = currentHandle[core];
+        if (handle < 0) {
+            stats.recordIdle(ticks);
+            return null;
+        }
+        ScheduledProcess p = allProcesses.get(handle);
+        busyTicks[core] += ticks;
+        int overhead = Math.max(0, Math.min(switchEnd[core], from + ticks) - from);
+        stats.recordOverhead(overhead);
+        p.decrementRemainingTime(ticks - overhead);
+        // процесс без остатка тоже отрабатывает такт после переключения
+        if (ticks > overhead && p.isFinished()) {
+            p.setFinishTime(from + ticks);
+            p.setState(ProcessState.FINISHED);
+            stats.record(p);
+            currentHandle[core] = -1;
+            finishedCount++;
+            events.onComplete(from + ticks, core, p);
+        }
+        return p;
+    }
+
+    private void checkFinished() {
+        finished = finishedCount == allProcesses.size();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public List<ScheduledProcess> getAllProcesses() {
+        return allProcesses;
+    }
+
+    @Override
+    public SimulationStats getStatistics() {
+        return stats.toStats();
+    }
+}
@@ -0,0 +1,27 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+/**
+ * Поток процессов, упорядоченный по времени прибытия. Планировщик забирает процессы
+ * по мере наступления их прибытия, поэтому вся нагрузка не обязана помещаться в памяти.
+ */
+public interface ProcessSource {
+
+    boolean hasNext();
+
+    /**
+     * Время прибытия следующего процесса; вызывается только если hasNext().
+     */
+    int peekArrivalTime();
+
+    /**
+     * Следующий процесс; каждый вызов возвращает новый объект в состоянии NEW.
+     */
+    ScheduledProcess next();
+
+    /**
+     * Вернуться к началу потока (для Scheduler.reset).
+     */
+    void rewind();
+}
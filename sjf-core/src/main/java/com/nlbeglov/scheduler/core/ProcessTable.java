@@ -0,0 +1,178 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Процессы, находящиеся в системе, по дескриптору: открытая адресация с линейным пробированием.
+ * Нужна потоковому режиму, где дескрипторы растут без ограничения, а память
+ * должна зависеть только от числа живых процессов.
+ */
+final class ProcessTable {
+
+    private static final int EMPTY = -1;
+
+    private int[] handles;
+    private ScheduledProcess[] values;
+    private int size;
+    private int mask;
+    private int shift;
+
+    // живые процессы по возрастанию дескриптора; перестраиваются при обращении после изменения таблицы
+    private final List<ScheduledProcess> ordered = new ArrayList<>();
+    private final List<ScheduledProcess> orderedView = new OrderedView();
+    private int[] orderedHandles = new int[0];
+    private boolean orderedStale;
+
+    ProcessTable() {
+        allocate(16);
+    }
+
+    private void allocate(int capacity) {
+        handles = new int[capacity];
+        Arrays.fill(handles, EMPTY);
+        values = new ScheduledProcess[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(handles, EMPTY);
+        Arrays.fill(values, null);
+        size = 0;
+        orderedStale = true;
+    }
+
+    void put(int handle, ScheduledProcess p) {
+        if ((size + 1) * 2 > handles.length) {
+            grow();
+        }
+        int i = slot(handle);
+        while (handles[i] != EMPTY && handles[i] != handle) {
+            i = (i + 1) & mask;
+        }
+        if (handles[i] == EMPTY) {
+            size++;
+        }
+        handles[i] = handle;
+        values[i] = p;
+        orderedStale = true;
+    }
+
+    ScheduledProcess get(int handle) {
+        for (int i = slot(handle); handles[i] != EMPTY; i = (i + 1) & mask) {
+            if (handles[i] == handle) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    void remove(int handle) {
+        int i = slot(handle);
+        while (handles[i] != handle) {
+            if (handles[i] == EMPTY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        // удаление со сдвигом назад: цепочки пробирования остаются непрерывными
+        int hole = i;
+        for (int j = (i + 1) & mask; handles[j] != EMPTY; j = (j + 1) & mask) {
+            int home = slot(handles[j]);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                handles[hole] = handles[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        handles[hole] = EMPTY;
+        values[hole] = null;
+        size--;
+        orderedStale = true;
+    }
+
+    /**
+     * Дескрипторы живых процессов в порядке возрастания.
+     */
+    int[] handles() {
+        int[] res = new int[size];
+        int n = 0;
+        for (int h : handles) {
+            if (h != EMPTY) {
+                res[n++] = h;
+            }
+        }
+        Arrays.sort(res);
+        return res;
+    }
+
+    /**
+     * Живые процессы в порядке дескрипторов — представление только для чтения, которое меняется
+     * вместе с таблицей. Порядок пересчитывается при первом обращении после изменения,
+     * во внутренние буферы, так что чтение по тактам не выделяет память.
+     */
+    List<ScheduledProcess> values() {
+        return orderedView;
+    }
+
+    private List<ScheduledProcess> ordered() {
+        if (orderedStale) {
+            if (orderedHandles.length < size) {
+                orderedHandles = new int[handles.length];
+            }
+            int n = 0;
+            for (int h : handles) {
+                if (h != EMPTY) {
+                    orderedHandles[n++] = h;
+                }
+            }
+            Arrays.sort(orderedHandles, 0, n);
+            ordered.clear();
+            for (int i = 0; i < n; i++) {
+                ordered.add(get(orderedHandles[i]));
+            }
+            orderedStale = false;
+        }
+        return ordered;
+    }
+
+    private void grow() {
+        int[] oldHandles = handles;
+        ScheduledProcess[] oldValues = values;
+        allocate(oldHandles.length * 2);
+        size = 0;
+        for (int i = 0; i < oldHandles.length; i++) {
+            if (oldHandles[i] != EMPTY) {
+                put(oldHandles[i], oldValues[i]);
+            }
+        }
+    }
+
+    private final class OrderedView extends AbstractList<ScheduledProcess> implements RandomAccess {
+
+        @Override
+        public ScheduledProcess get(int index) {
+            return ordered().get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private int slot(int handle) {
+        // мультипликативное хеширование: старшие биты произведения
+        return (handle * 0x9E3779B9) >>> shift;
+    }
+}
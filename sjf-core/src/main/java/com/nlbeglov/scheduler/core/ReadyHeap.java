@@ -0,0 +1,120 @@
+package com.nlbeglov.scheduler.core;
+
+import java.util.Arrays;
+
+/**
+ * Двоичная куча готовых процессов на примитивных массивах.
+ * Процесс представлен целочисленным дескриптором, порядок задается ключом типа long;
+ * при равных ключах раньше идет меньший дескриптор, поэтому дескрипторы нужно
+ * выдавать в порядке поступления процессов.
+ * Вставка и извлечение — O(log n), просмотр минимума — O(1).
+ */
+public final class ReadyHeap {
+
+    private int[] handles;
+    private long[] keys;
+    private int size;
+
+    public ReadyHeap(int capacity) {
+        int c = Math.max(capacity, 4);
+        handles = new int[c];
+        keys = new long[c];
+    }
+
+    /**
+     * Ключ: эффективный приоритет в старших 32 битах, поле политики (tieBreak, см. SchedulingPolicy) —
+     * в младших. Для политики по умолчанию это оставшееся время.
+     */
+    public static long key(int priority, int tieBreak) {
+        return ((long) priority << 32) | (tieBreak & 0xFFFFFFFFL);
+    }
+
+    public static int priorityOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int tieBreakOf(long key) {
+        return (int) key;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(int handle, long key) {
+        if (size == handles.length) {
+            handles = Arrays.copyOf(handles, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        int pos = size++;
+        // просеивание вверх без промежуточных обменов
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!less(key, handle, keys[parent], handles[parent])) {
+                break;
+            }
+            handles[pos] = handles[parent];
+            keys[pos] = keys[parent];
+            pos = parent;
+        }
+        handles[pos] = handle;
+        keys[pos] = key;
+    }
+
+    /**
+     * Дескриптор лучшего процесса или -1, если куча пуста.
+     */
+    public int peek() {
+        return size == 0 ? -1 : handles[0];
+    }
+
+    public long peekKey() {
+        return keys[0];
+    }
+
+    public int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        int top = handles[0];
+        int last = --size;
+        if (last > 0) {
+            siftDown(handles[last], keys[last], last);
+        }
+        return top;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    static boolean less(long k1, int h1, long k2, int h2) {
+        return k1 < k2 || (k1 == k2 && h1 < h2);
+    }
+
+    private void siftDown(int handle, long key, int limit) {
+        int pos = 0;
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= limit) {
+                break;
+            }
+            int right = child + 1;
+            if (right < limit && less(keys[right], handles[right], keys[child], handles[child])) {
+                child = right;
+            }
+            if (!less(keys[child], handles[child], key, handle)) {
+                break;
+            }
+            handles[pos] = handles[child];
+            keys[pos] = keys[child];
+            pos = child;
+        }
+        handles[pos] = handle;
+        keys[pos] = key;
+    }
+}
@@ -0,0 +1,471 @@
+package com.nlbeglov.scheduler.core;
+
+import java.util.Arrays;
+
+/**
+ * Очередь готовых процессов с ленивым старением приоритета.
+ * <p>
+ * Эффективный приоритет не хранится, а вычисляется по требованию:
+ * {@code max(0, base - ожидание / agingInterval)}, где ожидание в момент t равно {@code t - origin}
+ * (origin — момент входа в READY минус уже накопленное ожидание).
+ * Процессы с одинаковым {@code origin mod agingInterval} («фазой») пересекают пороги старения
+ * одновременно, поэтому внутри фазы порядок не меняется и хранится в отдельной куче
+ * с неизменным ключом. Процессы, чей приоритет больше не меняется (старение выключено,
+ * базовый приоритет не положителен или уже достигнут 0), лежат в общей куче.
+ * <p>
+ * Непустые фазы занимают слоты (фаза → слот — открытая адресация), поэтому память зависит
+ * от числа готовых процессов, а не от agingInterval. Слоты лежат в двух индексированных кучах:
+ * по текущему ключу вершины фазы и по моменту следующей смены эпохи. Ключ пересчитывается
+ * только у фазы, чья эпоха сменилась, так что выбор лучшего процесса и nextAgingTime стоят
+ * O(log фаз + log n) с амортизацией, без прохода по всем фазам.
+ */
+public final class ReadyQueue {
+
+    private final ReadyHeap fixed = new ReadyHeap(16);
+    private SchedulingPolicy policy = SchedulingPolicy.DEFAULT;
+
+    private int agingInterval; // 0 — старение выключено
+    private int size;
+
+    // слоты непустых фаз
+    private final PhaseTable slotOf = new PhaseTable();
+    private int[] phaseOf = new int[16];
+    private ReadyHeap[] heapOf = new ReadyHeap[16];
+    private int[] epochOf = new int[16];     // эпоха фазы, по которой посчитан ключ ее вершины
+    private long[] nextFlip = new long[16];  // ближайший момент после нее, когда эпоха сменится
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    private final SlotHeap byHead = new SlotHeap(false);
+    private final SlotHeap byFlip = new SlotHeap(true);
+
+    // результат последнего поиска лучшего процесса; bestSlot = -1 — общая куча
+    private int bestSlot;
+    private int bestHandle;
+    private int bestPriority;
+    private long bestKey;
+
+    /**
+     * Перенастроить старение при политике по умолчанию. Очередь при этом очищается.
+     */
+    public void configure(boolean agingEnabled, int agingInterval) {
+        configure(SchedulingPolicy.DEFAULT, agingEnabled, agingInterval);
+    }
+
+    /**
+     * Перенастроить политику и старение. Очередь при этом очищается.
+     */
+    public void configure(SchedulingPolicy policy, boolean agingEnabled, int agingInterval) {
+        clear();
+        this.policy = policy;
+        this.agingInterval = agingEnabled ? Math.max(agingInterval, 1) : 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        fixed.clear();
+        for (int i = 0; i < slotCount; i++) {
+            heapOf[i].clear();
+        }
+        slotOf.clear();
+        byHead.clear();
+        byFlip.clear();
+        slotCount = 0;
+        freeCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Эффективный приоритет процесса, прождавшего waited тактов.
+     */
+    public static int effectivePriority(int basePriority, int waited, boolean agingEnabled, int agingInterval) {
+        if (!agingEnabled || basePriority <= 0) {
+            return basePriority;
+        }
+        return Math.max(0, basePriority - waited / Math.max(agingInterval, 1));
+    }
+
+    /**
+     * Добавить готовый процесс.
+     *
+     * @param origin момент, от которого ожидание отсчитывается целиком: readySince - накопленное ожидание
+     * @param now    текущий момент (origin &lt;= now)
+     */
+    public void add(int handle, int basePriority, int remainingTime, int origin, int now) {
+        size++;
+        int tieBreak = policy.tieBreak(remainingTime);
+        if (agingInterval == 0 || basePriority <= 0) {
+            fixed.add(handle, ReadyHeap.key(basePriority, tieBreak));
+            return;
+        }
+        int q = Math.floorDiv(origin, agingInterval);
+        int phase = origin - q * agingInterval;
+        int level = basePriority + q; // приоритет = level - epoch(phase, t)
+        if (level - epoch(phase, now) <= 0) {
+            fixed.add(handle, ReadyHeap.key(0, tieBreak));
+            return;
+        }
+        int slot = slotOf.get(phase);
+        if (slot < 0) {
+            slot = acquire(phase, now);
+            heapOf[slot].add(handle, ReadyHeap.key(level, tieBreak));
+            byHead.insert(slot);
+        } else {
+            heapOf[slot].add(handle, ReadyHeap.key(level, tieBreak));
+            byHead.update(slot);
+        }
+    }
+
+    /**
+     * Дескриптор лучшего процесса в момент now или -1.
+     */
+    public int peek(int now) {
+        return findBest(now) ? bestHandle : -1;
+    }
+
+    /**
+     * Эффективный приоритет процесса, возвращенного последним peek(now).
+     */
+    public int peekPriority() {
+        return bestPriority;
+    }
+
+    /**
+     * Ключ процесса, возвращенного последним peek(now), с эффективным приоритетом на момент now.
+     */
+    public long peekKey() {
+        return bestKey;
+    }
+
+    /**
+     * Извлечь лучший процесс в момент now; его эффективный приоритет доступен через peekPriority().
+     */
+    public int poll(int now) {
+        if (!findBest(now)) {
+            return -1;
+        }
+        size--;
+        if (bestSlot < 0) {
+            fixed.poll();
+        } else {
+            ReadyHeap heap = heapOf[bestSlot];
+            heap.poll();
+            if (heap.isEmpty()) {
+                release(bestSlot);
+            } else {
+                byHead.update(bestSlot);
+            }
+        }
+        return bestHandle;
+    }
+
+    /**
+     * Ближайший момент не раньше now, когда меняется эффективный приоритет хотя бы одного процесса,
+     * или Integer.MAX_VALUE, если приоритеты больше не изменятся.
+     * Смена, уже учтенная запросом в момент now, повторно не возвращается.
+     */
+    public int nextAgingTime(int now) {
+        advance(now - 1);
+        if (byFlip.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.min(nextFlip[byFlip.top()], Integer.MAX_VALUE);
+    }
+
+    private int epoch(int phase, int time) {
+        return Math.floorDiv(time - phase, agingInterval);
+    }
+
+    // первый момент после time, когда эпоха фазы увеличивается
+    private long firstFlipAfter(int phase, int time) {
+        return (long) time + 1 + Math.floorMod(phase - time - 1, agingInterval);
+    }
+
+    // ключ вершины фазы с эффективным приоритетом по эпохе epochOf[slot]
+    private long headKey(int slot) {
+        long stored = heapOf[slot].peekKey();
+        return ReadyHeap.key(ReadyHeap.priorityOf(stored) - epochOf[slot], ReadyHeap.tieBreakOf(stored));
+    }
+
+    // пересчитать фазы, чья эпоха сменилась к моменту now
+    private void advance(int now) {
+        while (!byFlip.isEmpty()) {
+            int slot = byFlip.top();
+            if (nextFlip[slot] > now) {
+                return;
+            }
+            int phase = phaseOf[slot];
+            int epoch = epoch(phase, now);
+            epochOf[slot] = epoch;
+            nextFlip[slot] = firstFlipAfter(phase, now);
+            byFlip.update(slot);
+            // процессы, дошедшие до приоритета 0, переносим в общую кучу:
+            // внутри фазы они стоят в начале, т.к. упорядочены по level
+            ReadyHeap heap = heapOf[slot];
+            while (!heap.isEmpty() && ReadyHeap.priorityOf(heap.peekKey()) - epoch <= 0) {
+                long key = heap.peekKey();
+                fixed.add(heap.poll(), ReadyHeap.key(0, ReadyHeap.tieBreakOf(key)));
+            }
+            if (heap.isEmpty()) {
+                release(slot);
+            } else {
+                byHead.update(slot);
+            }
+        }
+    }
+
+    private boolean findBest(int now) {
+        if (size == 0) {
+            return false;
+        }
+        advance(now);
+        bestSlot = -1;
+        bestKey = Long.MAX_VALUE;
+        bestHandle = -1;
+        if (!fixed.isEmpty()) {
+            bestHandle = fixed.peek();
+            bestKey = fixed.peekKey();
+        }
+        if (!byHead.isEmpty()) {
+            int slot = byHead.top();
+            long key = headKey(slot);
+            int handle = heapOf[slot].peek();
+            if (bestHandle < 0 || ReadyHeap.less(key, handle, bestKey, bestHandle)) {
+                bestSlot = slot;
+                bestHandle = handle;
+                bestKey = key;
+            }
+        }
+        bestPriority = ReadyHeap.priorityOf(bestKey);
+        return true;
+    }
+
+    private int acquire(int phase, int now) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = slotCount++;
+            if (slot == phaseOf.length) {
+                int capacity = slot * 2;
+                phaseOf = Arrays.copyOf(phaseOf, capacity);
+                heapOf = Arrays.copyOf(heapOf, capacity);
+                epochOf = Arrays.copyOf(epochOf, capacity);
+                nextFlip = Arrays.copyOf(nextFlip, capacity);
+                freeSlots = Arrays.copyOf(freeSlots, capacity);
+            }
+            if (heapOf[slot] == null) {
+                heapOf[slot] = new ReadyHeap(16);
+            }
+        }
+        phaseOf[slot] = phase;
+        epochOf[slot] = epoch(phase, now);
+        nextFlip[slot] = firstFlipAfter(phase, now);
+        slotOf.put(phase, slot);
+        byFlip.insert(slot);
+        return slot;
+    }
+
+    private void release(int slot) {
+        byHead.remove(slot);
+        byFlip.remove(slot);
+        slotOf.remove(phaseOf[slot]);
+        freeSlots[freeCount++] = slot;
+    }
+
+    // индексированная куча слотов: по ключу вершины фазы или по моменту смены эпохи
+    private final class SlotHeap {
+
+        private final boolean byFlipTime;
+        private int[] slots = new int[16];
+        private int[] pos = new int[16];
+        private int size;
+
+        SlotHeap(boolean byFlipTime) {
+            this.byFlipTime = byFlipTime;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int top() {
+            return slots[0];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void insert(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            if (slot >= pos.length) {
+                pos = Arrays.copyOf(pos, Math.max(slot + 1, pos.length * 2));
+            }
+            slots[size] = slot;
+            pos[slot] = size;
+            siftUp(size++);
+        }
+
+        void update(int slot) {
+            siftDown(siftUp(pos[slot]));
+        }
+
+        void remove(int slot) {
+            int i = pos[slot];
+            int last = slots[--size];
+            if (i < size) {
+                slots[i] = last;
+                pos[last] = i;
+                siftDown(siftUp(i));
+            }
+        }
+
+        private boolean less(int a, int b) {
+            if (byFlipTime) {
+                return nextFlip[a] < nextFlip[b];
+            }
+            return ReadyHeap.less(headKey(a), heapOf[a].peek(), headKey(b), heapOf[b].peek());
+        }
+
+        private int siftUp(int i) {
+            int slot = slots[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                int p = slots[parent];
+                if (!less(slot, p)) {
+                    break;
+                }
+                slots[i] = p;
+                pos[p] = i;
+                i = parent;
+            }
+            slots[i] = slot;
+            pos[slot] = i;
+            return i;
+        }
+
+        private void siftDown(int i) {
+            int slot = slots[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && less(slots[child + 1], slots[child])) {
+                    child++;
+                }
+                int c = slots[child];
+                if (!less(c, slot)) {
+                    break;
+                }
+                slots[i] = c;
+                pos[c] = i;
+                i = child;
+            }
+            slots[i] = slot;
+            pos[slot] = i;
+        }
+    }
+
+    // фаза → слот: открытая адресация с линейным пробированием, как в ProcessTable
+    private static final class PhaseTable {
+
+        private static final int EMPTY = -1;
+
+        private int[] keys;
+        private int[] values;
+        private int size;
+        private int mask;
+        private int shift;
+
+        PhaseTable() {
+            allocate(16);
+        }
+
+        private void allocate(int capacity) {
+            keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            values = new int[capacity];
+            mask = capacity - 1;
+            shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        }
+
+        void clear() {
+            if (size > 0) {
+                Arrays.fill(keys, EMPTY);
+                size = 0;
+            }
+        }
+
+        int get(int key) {
+            for (int i = slot(key); keys[i] != EMPTY; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(int key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+            }
+            int i = slot(key);
+            while (keys[i] != EMPTY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == EMPTY) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        void remove(int key) {
+            int i = slot(key);
+            while (keys[i] != key) {
+                if (keys[i] == EMPTY) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            int hole = i;
+            for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+                int home = slot(keys[j]);
+                if (((j - home) & mask) >= ((j - hole) & mask)) {
+                    keys[hole] = keys[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            keys[hole] = EMPTY;
+            size--;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            allocate(oldKeys.length * 2);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private int slot(int key) {
+            return (key * 0x9E3779B9) >>> shift;
+        }
+    }
+}
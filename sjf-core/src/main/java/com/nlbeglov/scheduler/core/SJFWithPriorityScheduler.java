@@ -0,0 +1,456 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.jfr.AgingEvent;
+import com.nlbeglov.scheduler.jfr.CompleteEvent;
+import com.nlbeglov.scheduler.jfr.DispatchEvent;
+import com.nlbeglov.scheduler.jfr.PreemptEvent;
+import com.nlbeglov.scheduler.jfr.StepPhaseEvent;
+import com.nlbeglov.scheduler.model.ProcessArena;
+import com.nlbeglov.scheduler.model.ProcessState;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.model.StatsAccumulator;
+
+import java.util.*;
+
+public class SJFWithPriorityScheduler implements Scheduler, Checkpointable {
+
+    private SchedulerConfig config = SchedulerConfig.defaultConfig();
+
+    private List<ScheduledProcess> allProcesses = new ArrayList<>();
+    // потоковый режим: процессы берутся из source, в памяти только живые (в live)
+    private ProcessSource source;
+    private final ProcessTable live = new ProcessTable();
+    // готовые процессы; дескриптор — индекс в allProcesses или номер поступления из source
+    // (в обоих случаях он же порядок прибытия)
+    private final ReadyQueue ready = new ReadyQueue();
+    private ScheduledProcess current;
+    private int currentHandle = -1;
+    private int nextArrival; // индекс (номер) первого еще не поступившего процесса
+    private int finishedCount;
+    // статистика копится по мере завершения процессов
+    private final StatsAccumulator stats = new StatsAccumulator();
+    private SchedulerEventListener events = SchedulerEventListener.NONE;
+    private int time;
+    private int clock; // момент следующего шага: time + 1 или точка, до которой дошел fastForward
+    // первый полезный такт текущего процесса: до него идет переключение контекста,
+    // и до него включительно процесс не вытесняется — иначе при дорогом переключении никто не продвинется
+    private int switchEnd;
+    private boolean finished;
+    // описание нагрузки для контрольных точек, общее для всех точек одного набора процессов
+    private SchedulerCheckpoint.Workload workload;
+
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    @Override
+    public void setConfig(SchedulerConfig config) {
+        this.config = config;
+        // фазы старения зависят от интервала — перестраиваем очередь под новую конфигурацию
+        ready.configure(config.getPolicy(), config.isAgingEnabled(), config.getAgingInterval());
+        if (source != null) {
+            for (int handle : live.handles()) {
+                if (live.get(handle).getState() == ProcessState.READY) {
+                    enqueue(handle);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < nextArrival; i++) {
+            if (allProcesses.get(i).getState() == ProcessState.READY) {
+                enqueue(i);
+            }
+        }
+    }
+
+    @Override
+    public void setEventListener(SchedulerEventListener listener) {
+        this.events = listener != null ? listener : SchedulerEventListener.NONE;
+    }
+
+    @Override
+    public void setProcesses(List<ScheduledProcess> processes) {
+        List<ScheduledProcess> ordered = ProcessArena.inArrivalOrder(processes);
+        if (source != null || ordered != allProcesses) {
+            // тот же список арены: описание нагрузки для контрольных точек остается верным
+            this.workload = null;
+        }
+        this.source = null;
+        this.allProcesses = ordered;
+        reset();
+    }
+
+    /**
+     * Потоковый режим: процессы забираются из source по мере прибытия, а завершенные
+     * сразу забываются, так что память ограничена числом процессов в системе, а не длиной нагрузки.
+     * Статистика при этом копится потоково и доступна через getStatistics().
+     */
+    public void setProcessSource(ProcessSource source) {
+        this.allProcesses = new ArrayList<>();
+        this.source = source;
+        this.workload = null;
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        // состояние выполнения сбрасывается на месте: повторный прогон той же нагрузки не создает объектов
+        for (ScheduledProcess p : allProcesses) {
+            p.resetRuntime();
+        }
+        if (source != null) {
+            source.rewind();
+        }
+        live.clear();
+        ready.clear();
+        current = null;
+        currentHandle = -1;
+        nextArrival = 0;
+        finishedCount = 0;
+        stats.clear();
+        time = 0;
+        clock = 0;
+        switchEnd = 0;
+        finished = false;
+    }
+
+    /**
+     * Контрольная точка текущего состояния; берется между шагами, продолжать — с checkpoint.getTime().
+     * Только для нагрузки из setProcesses: потоковый источник не умеет возвращаться к позиции.
+     */
+    @Override
+    public SchedulerCheckpoint checkpoint() {
+        if (source != null) {
+            throw new IllegalStateException("checkpoints need an in-memory workload, not a ProcessSource");
+        }
+        if (workload == null) {
+            int n = allProcesses.size();
+            String[] ids = new String[n];
+            int[] arrivals = new int[n];
+            int[] bursts = new int[n];
+            int[] priorities = new int[n];
+            for (int i = 0; i < n; i++) {
+                ScheduledProcess p = allProcesses.get(i);
+                ids[i] = p.getId();
+                arrivals[i] = p.getArrivalTime();
+                bursts[i] = p.getBurstTime();
+                priorities[i] = p.getBasePriority();
+            }
+            workload = new SchedulerCheckpoint.Workload(ids, arrivals, bursts, priorities);
+        }
+        StatsAccumulator statsCopy = new StatsAccumulator();
+        statsCopy.copyFrom(stats);
+        SchedulerCheckpoint cp = new SchedulerCheckpoint(workload, config, clock, time,
+                nextArrival, finishedCount, currentHandle, switchEnd, finished, statsCopy);
+        for (int i = 0; i < nextArrival; i++) {
+            ScheduledProcess p = allProcesses.get(i);
+            cp.remaining[i] = p.getRemainingTime();
+            cp.effectivePriority[i] = p.getEffectivePriority();
+            cp.state[i] = (byte) p.getState().ordinal();
+            cp.start[i] = p.getStartTime() != null ? p.getStartTime() : -1;
+            cp.finish[i] = p.getFinishTime() != null ? p.getFinishTime() : -1;
+            cp.accumulatedWaiting[i] = p.getAccumulatedWaitingTime();
+            cp.readySince[i] = p.getReadySince();
+        }
+        return cp;
+    }
+
+    /**
+     * Вернуться к контрольной точке. Если точка взята с той же нагрузки, что сейчас загружена
+     * (этим планировщиком или ответвлением от него), процессы откатываются на месте и объекты
+     * из getAllProcesses остаются прежними. Иначе создаются n новых процессов — так работает fork,
+     * и планировщики, восстановленные из одной точки, не делят состояние.
+     */
+    @Override
+    public void restore(SchedulerCheckpoint checkpoint) {
+        SchedulerCheckpoint.Workload w = checkpoint.workload;
+        int n = w.ids.length;
+        boolean inPlace = source == null && workload == w && allProcesses.size() == n;
+        List<ScheduledProcess> processes = inPlace ? allProcesses : new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ScheduledProcess p;
+            if (inPlace) {
+                p = processes.get(i);
+            } else {
+                p = new ScheduledProcess(w.ids[i], w.arrivals[i], w.bursts[i], w.priorities[i]);
+                processes.add(p);
+            }
+            if (i < checkpoint.nextArrival) {
+                p.restoreRuntime(checkpoint.remaining[i], checkpoint.effectivePriority[i],
+                        STATES[checkpoint.state[i]], checkpoint.start[i], checkpoint.finish[i],
+                        checkpoint.accumulatedWaiting[i], checkpoint.readySince[i]);
+            } else if (inPlace) {
+                p.resetRuntime();
+            }
+        }
+        source = null;
+        workload = w;
+        allProcesses = processes;
+        live.clear();
+        currentHandle = checkpoint.currentHandle;
+        current = currentHandle >= 0 ? processes.get(currentHandle) : null;
+        nextArrival = checkpoint.nextArrival;
+        finishedCount = checkpoint.finishedCount;
+        stats.copyFrom(checkpoint.stats);
+        time = checkpoint.stepTime;
+        clock = checkpoint.time;
+        switchEnd = checkpoint.switchEnd;
+        finished = checkpoint.finished;
+        // очередь готовых строится заново по READY-процессам, как при смене конфигурации
+        setConfig(checkpoint.config);
+    }
+
+    /**
+     * Новый независимый планировщик, продолжающий прогон из checkpoint с конфигурацией config
+     * (null — с конфигурацией точки).
+     */
+    public static SJFWithPriorityScheduler fork(SchedulerCheckpoint checkpoint, SchedulerConfig config) {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.restore(checkpoint);
+        if (config != null) {
+            scheduler.setConfig(config);
+        }
+        return scheduler;
+    }
+
+    @Override
+    public ScheduledProcess step(int time) {
+        this.time = time;
+        this.clock = time + 1;
+
+        if (finished) return null;
+
+        // перевести NEW → READY, если пришло их время;
+        // процессы упорядочены по прибытию, поэтому достаточно сдвигать курсор
+        StepPhaseEvent phase = StepPhaseEvent.start();
+        while (nextArrivalTime() <= time) {
+            ScheduledProcess p;
+            if (source != null) {
+                p = source.next();
+                live.put(nextArrival, p);
+            } else {
+                p = allProcesses.get(nextArrival);
+            }
+            p.enterReady(p.getArrivalTime());
+            enqueue(nextArrival);
+            nextArrival++;
+            events.onArrival(p.getArrivalTime(), p);
+        }
+        phase.finish(StepPhaseEvent.ADMISSION, time, ready.size());
+
+        // если текущий процесс есть и режим невытесняющий — просто выполняем его
+        if (current != null && config.getMode() == SchedulingMode.NON_PREEMPTIVE) {
+            return executeCurrent();
+        }
+
+        phase = StepPhaseEvent.start();
+
+        // иначе, выбираем лучший READY процесс (с учетом старения на момент time)
+        int nextHandle = ready.peek(time);
+        ScheduledProcess next = nextHandle < 0 ? null : process(nextHandle);
+
+        // если никого, кроме, возможно, текущего RUNNING, нет
+        if (next == null && current == null) {
+            // ничего не делаем, CPU idle
+            stats.recordIdle(1);
+            checkFinished();
+            phase.finish(StepPhaseEvent.SELECTION, time, 0);
+            return null;
+        }
+
+        // preemptive: сравниваем текущий и next
+        if (config.getMode() == SchedulingMode.PREEMPTIVE) {
+            if (shouldPreempt(current, next)) {
+                ScheduledProcess preempted = current;
+                int preemptedHandle = currentHandle;
+                if (preempted != null) {
+                    stats.recordPreemption();
+                    PreemptEvent.emit(time, preempted, ready.size());
+                    events.onPreempt(time, 0, preempted);
+                }
+                // сначала забираем кандидата, иначе при равных ключах снова выберется вытесненный
+                dispatch();
+                if (preempted != null && preempted.getState() == ProcessState.RUNNING) {
+                    preempted.enterReady(time);
+                    enqueue(preemptedHandle);
+                }
+            }
+        } else {
+            // non-preemptive: если current == null, просто берем next
+            if (current == null && next != null) {
+                dispatch();
+            }
+        }
+        phase.finish(StepPhaseEvent.SELECTION, time, ready.size());
+
+        // выполняем текущий
+        return executeCurrent();
+    }
+
+    @Override
+    public int fastForward(int time) {
+        if (finished) {
+            clock = time;
+            return time;
+        }
+        int next = nextDecisionTime(time);
+        clock = next;
+        if (current == null && next > time) {
+            stats.recordIdle(next - time);
+        }
+        if (current != null && next > time) {
+            // на отрезке [time, next) решение не меняется — исполняем его целиком
+            StepPhaseEvent phase = StepPhaseEvent.start();
+            int overhead = Math.max(0, Math.min(switchEnd, next) - time);
+            stats.recordOverhead(overhead);
+            current.decrementRemainingTime(next - time - overhead);
+            // процесс без остатка тоже отрабатывает такт после переключения
+            if (next - time > overhead && current.isFinished()) {
+                finishCurrent(next);
+            }
+            phase.finish(StepPhaseEvent.ACCOUNTING, time, ready.size());
+        }
+        return next;
+    }
+
+    /**
+     * Ближайший момент, начиная с time, в который step может принять другое решение.
+     */
+    private int nextDecisionTime(int time) {
+        int next = nextArrivalTime();
+        if (current == null) {
+            // без текущего процесса решение нужно при первом же готовом процессе
+            return ready.isEmpty() && next != Integer.MAX_VALUE ? Math.max(next, time) : time;
+        }
+        int completion = Math.max(switchEnd, time) + Math.max(current.getRemainingTime(), 1);
+        if (config.getMode() == SchedulingMode.NON_PREEMPTIVE) {
+            // до завершения текущего процесса ни прибытия, ни старение решение не меняют:
+            // время ожидания и приоритеты считаются по отметкам времени
+            return completion;
+        }
+        next = Math.min(next, completion);
+        next = Math.min(next, ready.nextAgingTime(time));
+        if (switchEnd + 1 >= time && config.getContextSwitchCost() > 0) {
+            // с такта после switchEnd процесс снова можно вытеснить
+            next = Math.min(next, switchEnd + 1);
+        }
+        return Math.max(next, time);
+    }
+
+    // время прибытия следующего еще не поступившего процесса или Integer.MAX_VALUE
+    private int nextArrivalTime() {
+        if (source != null) {
+            return source.hasNext() ? source.peekArrivalTime() : Integer.MAX_VALUE;
+        }
+        return nextArrival < allProcesses.size()
+                ? allProcesses.get(nextArrival).getArrivalTime() : Integer.MAX_VALUE;
+    }
+
+    private ScheduledProcess process(int handle) {
+        return source != null ? live.get(handle) : allProcesses.get(handle);
+    }
+
+    private void enqueue(int handle) {
+        ScheduledProcess p = process(handle);
+        int origin = p.getReadySince() - p.getAccumulatedWaitingTime();
+        ready.add(handle, p.getBasePriority(), p.getRemainingTime(), origin, time);
+    }
+
+    private void dispatch() {
+        int handle = ready.poll(time);
+        current = process(handle);
+        currentHandle = handle;
+        current.leaveReady(time);
+        int oldPriority = current.getEffectivePriority();
+        current.setEffectivePriority(ready.peekPriority());
+        if (current.getEffectivePriority() != oldPriority) {
+            AgingEvent.emit(time, current, oldPriority, ready.size());
+            events.onPriorityAged(time, current, oldPriority);
+        }
+        current.setStartTimeIfNotSet(time);
+        current.setState(ProcessState.RUNNING);
+        switchEnd = time + config.getContextSwitchCost();
+        stats.recordContextSwitch();
+        DispatchEvent.emit(time, current, ready.size());
+        events.onDispatch(time, 0, current);
+    }
+
+    /**
+     * Выполнить текущий процесс один такт; пока идет переключение контекста, такт уходит на него.
+     * Возвращает процесс, занимавший CPU на этом такте (даже если он только что завершился).
+     */
+    private ScheduledProcess executeCurrent() {
+        ScheduledProcess ran = current;
+        if (ran == null) return null;
+        StepPhaseEvent phase = StepPhaseEvent.start();
+        if (time < switchEnd) {
+            stats.recordOverhead(1);
+        } else {
+            ran.decrementRemainingTime();
+            if (ran.isFinished()) {
+                finishCurrent(time + 1);
+            }
+        }
+        phase.finish(StepPhaseEvent.ACCOUNTING, time, ready.size());
+        return ran;
+    }
+
+    private void finishCurrent(int finishTime) {
+        ScheduledProcess done = current;
+        current.setFinishTime(finishTime);
+        current.setState(ProcessState.FINISHED);
+        stats.record(current);
+        if (source != null) {
+            live.remove(currentHandle);
+        }
+        current = null;
+        currentHandle = -1;
+        finishedCount++;
+        checkFinished();
+        CompleteEvent.emit(finishTime, done, ready.size());
+        events.onComplete(finishTime, 0, done);
+    }
+
+    // ключ кандидата уже содержит эффективный приоритет на текущий момент (с учетом старения);
+    // у выполняющегося процесса приоритет фиксируется при выдаче CPU
+    private boolean shouldPreempt(ScheduledProcess current, ScheduledProcess candidate) {
+        if (candidate == null) {
+            return false;
+        }
+        if (current == null) {
+            return true;
+        }
+        if (time <= switchEnd) {
+            return false;
+        }
+        SchedulingPolicy policy = config.getPolicy();
+        return policy.preempts(ready.peekKey(),
+                policy.key(current.getEffectivePriority(), current.getRemainingTime()));
+    }
+
+    private void checkFinished() {
+        if (source != null) {
+            finished = !source.hasNext() && live.size() == 0;
+        } else {
+            finished = finishedCount == allProcesses.size();
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * В потоковом режиме — только процессы, уже поступившие и еще не завершившиеся:
+     * представление только для чтения, которое меняется по ходу прогона и не копируется при вызове.
+     */
+    @Override
+    public List<ScheduledProcess> getAllProcesses() {
+        return source != null ? live.values() : allProcesses;
+    }
+
+    @Override
+    public SimulationStats getStatistics() {
+        return stats.toStats();
+    }
+}
\ No newline at end of file
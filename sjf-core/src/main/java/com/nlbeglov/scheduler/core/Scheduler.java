@@ -0,0 +1,67 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+
+import java.util.List;
+
+public interface Scheduler {
+
+    void setConfig(SchedulerConfig config);
+
+    void setProcesses(List<ScheduledProcess> processes);
+
+    void reset();
+
+    /**
+     * Получатель событий планирования (поступление, выдача CPU, вытеснение, завершение).
+     */
+    void setEventListener(SchedulerEventListener listener);
+
+    /**
+     * Выполнить один шаг планирования для времени time.
+     * Возвращает процесс, который выполняется на этом шаге (или null, если CPU простаивает).
+     */
+    ScheduledProcess step(int time);
+
+    /**
+     * Число процессоров, которые моделирует планировщик.
+     */
+    default int getCoreCount() {
+        return 1;
+    }
+
+    /**
+     * Шаг для многоядерного планировщика: running[core] — процесс, выполнявшийся на ядре core
+     * в такт time (или null, если ядро простаивало). Длина массива — не меньше getCoreCount().
+     */
+    default void step(int time, ScheduledProcess[] running) {
+        running[0] = step(time);
+    }
+
+    /**
+     * Событийный режим: вызывается после step(time - 1) и продолжает выполнять текущий процесс
+     * без пересмотра решения до ближайшей точки, в которой решение может измениться
+     * (прибытие, завершение текущего процесса, порог старения).
+     * Возвращает момент этой точки — с него нужно вызвать следующий step.
+     * Такты [time, результат) считаются выполненными тем же процессом, что и на шаге time - 1
+     * (или простоем, если он завершился либо CPU простаивал).
+     * Реализация по умолчанию ничего не пропускает, что соответствует потактовому режиму.
+     */
+    default int fastForward(int time) {
+        return time;
+    }
+
+    boolean isFinished();
+
+    List<ScheduledProcess> getAllProcesses();
+
+    /**
+     * Статистика по уже завершившимся процессам.
+     */
+    default SimulationStats getStatistics() {
+        return SimulationStats.fromProcesses(getAllProcesses().stream()
+                .filter(ScheduledProcess::isFinished)
+                .toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.StatsAccumulator;
+
+/**
+ * Контрольная точка планировщика: все, что нужно, чтобы продолжить прогон с момента getTime()
+ * в том же или в новом планировщике. Неизменяема; из одной точки можно восстанавливаться сколько угодно раз.
+ * <p>
+ * Описание нагрузки (id, прибытие, длительность, приоритет) общее у всех точек одного набора процессов;
+ * состояние выполнения хранится в примитивных массивах только для уже поступивших процессов —
+ * остальные еще в исходном состоянии.
+ */
+public final class SchedulerCheckpoint {
+
+    // общее описание нагрузки в порядке прибытия
+    static final class Workload {
+        final String[] ids;
+        final int[] arrivals;
+        final int[] bursts;
+        final int[] priorities;
+
+        Workload(String[] ids, int[] arrivals, int[] bursts, int[] priorities) {
+            this.ids = ids;
+            this.arrivals = arrivals;
+            this.bursts = bursts;
+            this.priorities = priorities;
+        }
+    }
+
+    final Workload workload;
+    final SchedulerConfig config;
+    final int time;
+    final int stepTime;
+    final int nextArrival;
+    final int finishedCount;
+    final int currentHandle;
+    final int switchEnd;
+    final boolean finished;
+    final StatsAccumulator stats;
+
+    // состояние процессов [0, nextArrival)
+    final int[] remaining;
+    final int[] effectivePriority;
+    final byte[] state;
+    final int[] start;
+    final int[] finish;
+    final int[] accumulatedWaiting;
+    final int[] readySince;
+
+    SchedulerCheckpoint(Workload workload, SchedulerConfig config, int time, int stepTime,
+                        int nextArrival, int finishedCount, int currentHandle, int switchEnd, boolean finished,
+                        StatsAccumulator stats) {
+        this.workload = workload;
+        this.config = config;
+        this.time = time;
+        this.stepTime = stepTime;
+        this.nextArrival = nextArrival;
+        this.finishedCount = finishedCount;
+        this.currentHandle = currentHandle;
+        this.switchEnd = switchEnd;
+        this.finished = finished;
+        this.stats = stats;
+        this.remaining = new int[nextArrival];
+        this.effectivePriority = new int[nextArrival];
+        this.state = new byte[nextArrival];
+        this.start = new int[nextArrival];
+        this.finish = new int[nextArrival];
+        this.accumulatedWaiting = new int[nextArrival];
+        this.readySince = new int[nextArrival];
+    }
+
+    /**
+     * Момент, с которого продолжается прогон: следующий вызов step должен быть step(getTime()).
+     */
+    public int getTime() {
+        return time;
+    }
+
+    public SchedulerConfig getConfig() {
+        return config;
+    }
+
+    public int getProcessCount() {
+        return workload.ids.length;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
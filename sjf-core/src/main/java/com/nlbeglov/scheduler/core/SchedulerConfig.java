@@ -0,0 +1,58 @@
+package com.nlbeglov.scheduler.core;
+
+public class SchedulerConfig {
+
+    private final SchedulingMode mode;
+    private final boolean agingEnabled;
+    private final int agingInterval; // через сколько единиц ожидания повышать приоритет
+    private final SchedulingPolicy policy;
+    private final int contextSwitchCost; // тактов накладных расходов на каждую выдачу CPU
+
+    public SchedulerConfig(SchedulingMode mode, boolean agingEnabled, int agingInterval) {
+        this(mode, agingEnabled, agingInterval, SchedulingPolicy.DEFAULT);
+    }
+
+    public SchedulerConfig(SchedulingMode mode, boolean agingEnabled, int agingInterval, SchedulingPolicy policy) {
+        this(mode, agingEnabled, agingInterval, policy, 0);
+    }
+
+    /**
+     * @param contextSwitchCost сколько тактов после выдачи CPU уходит на переключение контекста:
+     *                          процесс занимает CPU, но не продвигается, и вытеснить его нельзя
+     */
+    public SchedulerConfig(SchedulingMode mode, boolean agingEnabled, int agingInterval, SchedulingPolicy policy,
+                           int contextSwitchCost) {
+        if (contextSwitchCost < 0) {
+            throw new IllegalArgumentException("contextSwitchCost must not be negative: " + contextSwitchCost);
+        }
+        this.mode = mode;
+        this.agingEnabled = agingEnabled;
+        this.agingInterval = agingInterval;
+        this.policy = policy;
+        this.contextSwitchCost = contextSwitchCost;
+    }
+
+    public SchedulingMode getMode() {
+        return mode;
+    }
+
+    public boolean isAgingEnabled() {
+        return agingEnabled;
+    }
+
+    public int getAgingInterval() {
+        return agingInterval;
+    }
+
+    public SchedulingPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getContextSwitchCost() {
+        return contextSwitchCost;
+    }
+
+    public static SchedulerConfig defaultConfig() {
+        return new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5);
+    }
+}
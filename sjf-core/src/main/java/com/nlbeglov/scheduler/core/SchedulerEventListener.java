@@ -0,0 +1,40 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+/**
+ * События планировщика — переходы состояний процессов: NEW → READY (onArrival),
+ * READY → RUNNING (onDispatch), RUNNING → READY (onPreempt), RUNNING → FINISHED (onComplete)
+ * и изменение приоритета старением. Вызываются только при смене решения, а не на каждом такте,
+ * поэтому наблюдатель делает работу, пропорциональную числу событий планирования.
+ * core — номер ядра (0 для однопроцессорных планировщиков).
+ */
+public interface SchedulerEventListener {
+
+    SchedulerEventListener NONE = new SchedulerEventListener() {
+    };
+
+    /** Процесс поступил в систему (NEW → READY) в момент time. */
+    default void onArrival(int time, ScheduledProcess process) {
+    }
+
+    /** Процесс получил ядро core начиная с такта time. */
+    default void onDispatch(int time, int core, ScheduledProcess process) {
+    }
+
+    /** Процесс вытеснен с ядра core в момент time и вернулся в очередь; следом идет onDispatch. */
+    default void onPreempt(int time, int core, ScheduledProcess process) {
+    }
+
+    /** Процесс завершился на ядре core; time — момент завершения (конец последнего такта). */
+    default void onComplete(int time, int core, ScheduledProcess process) {
+    }
+
+    /**
+     * Эффективный приоритет процесса изменился старением: было oldPriority, стало
+     * process.getEffectivePriority(). Старение считается лениво, поэтому событие приходит
+     * в момент выдачи CPU, перед onDispatch.
+     */
+    default void onPriorityAged(int time, ScheduledProcess process, int oldPriority) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.nlbeglov.scheduler.core;
+
+/**
+ * Политика выбора готового процесса. Порядок задается упакованным ключом long
+ * (меньше — раньше, при равенстве — раньше прибывший): в старших 32 битах эффективный приоритет,
+ * в младших — неотрицательное поле tieBreak, выбранное политикой. Приоритет всегда старший,
+ * потому что старение сдвигает именно его (см. ReadyQueue); остальное политика решает сама.
+ * <p>
+ * Очередь готовых сравнивает ключи как числа, а политика вызывается только при постановке
+ * в очередь и при проверке вытеснения.
+ */
+public interface SchedulingPolicy {
+
+    /**
+     * Порядок внутри одного приоритета, не меньше 0.
+     */
+    int tieBreak(int remainingTime);
+
+    /**
+     * Вытесняет ли лучший готовый процесс (ключ candidateKey) выполняющийся (ключ currentKey).
+     */
+    boolean preempts(long candidateKey, long currentKey);
+
+    default long key(int priority, int remainingTime) {
+        return ReadyHeap.key(priority, tieBreak(remainingTime));
+    }
+
+    /**
+     * Политика по умолчанию: SJF с приоритетами.
+     */
+    SchedulingPolicy DEFAULT = SjfPriorityPolicy.INSTANCE;
+}
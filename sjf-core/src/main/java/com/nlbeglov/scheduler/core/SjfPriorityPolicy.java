@@ -0,0 +1,24 @@
+package com.nlbeglov.scheduler.core;
+
+/**
+ * Сначала меньший эффективный приоритет, при равном — меньшее оставшееся время.
+ * Кандидат вытесняет текущий процесс, если его ключ не больше: при полном равенстве CPU
+ * уступается ждущему процессу, иначе постаревший до уровня текущего процесс так и не получит CPU.
+ */
+public final class SjfPriorityPolicy implements SchedulingPolicy {
+
+    public static final SjfPriorityPolicy INSTANCE = new SjfPriorityPolicy();
+
+    private SjfPriorityPolicy() {
+    }
+
+    @Override
+    public int tieBreak(int remainingTime) {
+        return remainingTime;
+    }
+
+    @Override
+    public boolean preempts(long candidateKey, long currentKey) {
+        return candidateKey <= currentKey;
+    }
+}
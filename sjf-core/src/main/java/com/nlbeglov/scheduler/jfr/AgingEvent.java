@@ -0,0 +1,26 @@
+package com.nlbeglov.scheduler.jfr;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.nlbeglov.scheduler.Aging")
+@Label("Priority Aged")
+public final class AgingEvent extends ProcessEvent {
+
+    @Label("Old Priority")
+    int oldPriority;
+
+    @Label("New Priority")
+    int newPriority;
+
+    public static void emit(int time, ScheduledProcess process, int oldPriority, int readyDepth) {
+        AgingEvent e = new AgingEvent();
+        if (e.shouldCommit()) {
+            e.set(process.getId(), time, readyDepth);
+            e.oldPriority = oldPriority;
+            e.newPriority = process.getEffectivePriority();
+            e.commit();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.nlbeglov.scheduler.jfr;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.nlbeglov.scheduler.Complete")
+@Label("Complete")
+public final class CompleteEvent extends ProcessEvent {
+
+    @Label("Waiting Time")
+    int waiting;
+
+    @Label("Turnaround Time")
+    int turnaround;
+
+    public static void emit(int time, ScheduledProcess process, int readyDepth) {
+        CompleteEvent e = new CompleteEvent();
+        if (e.shouldCommit()) {
+            e.set(process.getId(), time, readyDepth);
+            e.waiting = process.getWaitingTime();
+            e.turnaround = process.getTurnaroundTime();
+            e.commit();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.nlbeglov.scheduler.jfr;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.nlbeglov.scheduler.Dispatch")
+@Label("Dispatch")
+public final class DispatchEvent extends ProcessEvent {
+
+    @Label("Effective Priority")
+    int priority;
+
+    @Label("Remaining Time")
+    int remaining;
+
+    /**
+     * Процесс получил CPU. Без активной записи событие не заполняется и не фиксируется.
+     */
+    public static void emit(int time, ScheduledProcess process, int readyDepth) {
+        DispatchEvent e = new DispatchEvent();
+        if (e.shouldCommit()) {
+            e.set(process.getId(), time, readyDepth);
+            e.priority = process.getEffectivePriority();
+            e.remaining = process.getRemainingTime();
+            e.commit();
+        }
+    }
+}
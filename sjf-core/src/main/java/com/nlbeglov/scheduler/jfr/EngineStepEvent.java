@@ -0,0 +1,41 @@
+package com.nlbeglov.scheduler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Один вызов SimulationEngine.step: сколько смоделированного времени он продвинул
+ * и сколько реального времени на это ушло.
+ */
+@Name("com.nlbeglov.scheduler.EngineStep")
+@Label("Simulation Engine Step")
+@Category({"Scheduler Simulation", "Phases"})
+@StackTrace(false)
+public final class EngineStepEvent extends jdk.jfr.Event {
+
+    @Label("From Time")
+    int fromTime;
+
+    @Label("To Time")
+    int toTime;
+
+    @Label("Event Driven")
+    boolean eventDriven;
+
+    public static EngineStepEvent start() {
+        EngineStepEvent e = new EngineStepEvent();
+        e.begin();
+        return e;
+    }
+
+    public void finish(int fromTime, int toTime, boolean eventDriven) {
+        if (shouldCommit()) {
+            this.fromTime = fromTime;
+            this.toTime = toTime;
+            this.eventDriven = eventDriven;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.nlbeglov.scheduler.jfr;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.nlbeglov.scheduler.Preempt")
+@Label("Preempt")
+public final class PreemptEvent extends ProcessEvent {
+
+    @Label("Remaining Time")
+    int remaining;
+
+    public static void emit(int time, ScheduledProcess process, int readyDepth) {
+        PreemptEvent e = new PreemptEvent();
+        if (e.shouldCommit()) {
+            e.set(process.getId(), time, readyDepth);
+            e.remaining = process.getRemainingTime();
+            e.commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.nlbeglov.scheduler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Общие поля событий JFR о решениях планировщика: процесс, смоделированное время
+ * и число процессов в очереди готовых в момент события.
+ */
+@Category({"Scheduler Simulation", "Decisions"})
+@StackTrace(false)
+abstract class ProcessEvent extends jdk.jfr.Event {
+
+    @Label("Process Id")
+    String processId;
+
+    @Label("Simulated Time")
+    @Description("Такт симуляции, в который принято решение")
+    int simTime;
+
+    @Label("Ready Queue Depth")
+    int readyDepth;
+
+    void set(String processId, int simTime, int readyDepth) {
+        this.processId = processId;
+        this.simTime = simTime;
+        this.readyDepth = readyDepth;
+    }
+}
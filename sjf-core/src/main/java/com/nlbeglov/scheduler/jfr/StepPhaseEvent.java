@@ -0,0 +1,51 @@
+package com.nlbeglov.scheduler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Длительность фазы одного шага планировщика: прием поступивших процессов,
+ * выбор процесса на CPU или учет выполненного времени.
+ * <pre>
+ * StepPhaseEvent phase = StepPhaseEvent.start();
+ * ...
+ * phase.finish(StepPhaseEvent.SELECTION, time, ready.size());
+ * </pre>
+ * Без активной записи begin и shouldCommit ничего не делают, и JIT убирает объект события.
+ */
+@Name("com.nlbeglov.scheduler.StepPhase")
+@Label("Scheduler Step Phase")
+@Category({"Scheduler Simulation", "Phases"})
+@StackTrace(false)
+public final class StepPhaseEvent extends jdk.jfr.Event {
+
+    public static final String ADMISSION = "admission";
+    public static final String SELECTION = "selection";
+    public static final String ACCOUNTING = "accounting";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Simulated Time")
+    int simTime;
+
+    @Label("Ready Queue Depth")
+    int readyDepth;
+
+    public static StepPhaseEvent start() {
+        StepPhaseEvent e = new StepPhaseEvent();
+        e.begin();
+        return e;
+    }
+
+    public void finish(String phase, int time, int readyDepth) {
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.simTime = time;
+            this.readyDepth = readyDepth;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.nlbeglov.scheduler.model;
+
+/**
+ * Сводка по распределению одной метрики (ожидание или время обращения).
+ */
+public class DistributionSummary {
+
+    private final long count;
+    private final double mean;
+    private final double variance;
+    private final long max;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+
+    public DistributionSummary(long count, double mean, double variance, long max,
+                               long p50, long p90, long p99, long p999) {
+        this.count = count;
+        this.mean = mean;
+        this.variance = variance;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getVariance() {
+        return variance;
+    }
+
+    public double getStdDev() {
+        return Math.sqrt(variance);
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getP999() {
+        return p999;
+    }
+}
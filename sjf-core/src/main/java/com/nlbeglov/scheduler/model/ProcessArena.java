@@ -0,0 +1,83 @@
+package com.nlbeglov.scheduler.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Собственный набор процессов для многократных прогонов одной нагрузки. Описания копируются
+ * один раз при создании арены и упорядочиваются по прибытию; держите одну арену на нагрузку.
+ * Список processes() планировщики принимают без сортировки и копирования, а повторная передача
+ * того же списка сохраняет их служебные массивы, так что reset() и повторный setProcesses
+ * только сбрасывают процессы на месте. Исходный список вызывающего не меняется.
+ */
+public final class ProcessArena {
+
+    private final Processes processes;
+
+    public ProcessArena(List<ScheduledProcess> definitions) {
+        ScheduledProcess[] copy = new ScheduledProcess[definitions.size()];
+        for (int i = 0; i < copy.length; i++) {
+            ScheduledProcess p = definitions.get(i);
+            copy[i] = new ScheduledProcess(p.getId(), p.getArrivalTime(), p.getBurstTime(), p.getBasePriority());
+        }
+        Arrays.sort(copy, Comparator.comparingInt(ScheduledProcess::getArrivalTime));
+        this.processes = new Processes(copy);
+    }
+
+    /**
+     * Процессы арены в порядке прибытия; список неизменяемый, процессы — общие для всех прогонов.
+     */
+    public List<ScheduledProcess> processes() {
+        return processes;
+    }
+
+    public int size() {
+        return processes.size();
+    }
+
+    /**
+     * Вернуть все процессы в исходное состояние.
+     */
+    public void reset() {
+        for (ScheduledProcess p : processes.items) {
+            p.resetRuntime();
+        }
+    }
+
+    /**
+     * Процессы в порядке прибытия для setProcesses: список арены возвращается как есть,
+     * любой другой — отсортированной копией.
+     */
+    public static List<ScheduledProcess> inArrivalOrder(List<ScheduledProcess> processes) {
+        if (processes instanceof Processes) {
+            return processes;
+        }
+        List<ScheduledProcess> sorted = new ArrayList<>(processes);
+        sorted.sort(Comparator.comparingInt(ScheduledProcess::getArrivalTime));
+        return sorted;
+    }
+
+    // неизменяемый список поверх массива арены; по типу setProcesses узнает уже упорядоченную нагрузку
+    private static final class Processes extends AbstractList<ScheduledProcess> implements RandomAccess {
+
+        private final ScheduledProcess[] items;
+
+        Processes(ScheduledProcess[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public ScheduledProcess get(int index) {
+            return items[index];
+        }
+
+        @Override
+        public int size() {
+            return items.length;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.nlbeglov.scheduler.model;
+
+/**
+ * Неизменяемая копия состояния процесса на момент снимка.
+ * startTime и finishTime равны -1, пока процесс не начал выполняться или не завершился.
+ */
+public final class ProcessSnapshot {
+
+    private final String id;
+    private final int arrivalTime;
+    private final int burstTime;
+    private final int basePriority;
+    private final int effectivePriority;
+    private final int remainingTime;
+    private final ProcessState state;
+    private final int startTime;
+    private final int finishTime;
+
+    public ProcessSnapshot(ScheduledProcess p) {
+        this.id = p.getId();
+        this.arrivalTime = p.getArrivalTime();
+        this.burstTime = p.getBurstTime();
+        this.basePriority = p.getBasePriority();
+        this.effectivePriority = p.getEffectivePriority();
+        this.remainingTime = p.getRemainingTime();
+        this.state = p.getState();
+        this.startTime = p.getStartTime() != null ? p.getStartTime() : -1;
+        this.finishTime = p.getState() == ProcessState.FINISHED ? p.getFinishTime() : -1;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getBurstTime() {
+        return burstTime;
+    }
+
+    public int getBasePriority() {
+        return basePriority;
+    }
+
+    public int getEffectivePriority() {
+        return effectivePriority;
+    }
+
+    public int getRemainingTime() {
+        return remainingTime;
+    }
+
+    public ProcessState getState() {
+        return state;
+    }
+
+    public int getStartTime() {
+        return startTime;
+    }
+
+    public int getFinishTime() {
+        return finishTime;
+    }
+}
@@ -0,0 +1,191 @@
+package com.nlbeglov.scheduler.model;
+
+/**
+ * Процесс: неизменное описание (id, прибытие, длительность, базовый приоритет) и состояние выполнения.
+ * Состояние хранится в примитивных полях и сбрасывается на месте через resetRuntime(),
+ * поэтому одну нагрузку можно прогонять многократно без создания новых объектов.
+ */
+public class ScheduledProcess {
+
+    private static final int UNSET = -1;
+
+    private final String id;
+    private final int arrivalTime;
+    private final int burstTime;
+    private final int basePriority; // чем меньше, тем важнее
+
+    private int remainingTime;
+    private int effectivePriority; // с учетом aging, фиксируется планировщиком при выдаче CPU
+    private ProcessState state;
+
+    private int startTime = UNSET;
+    private int finishTime = UNSET;
+
+    private int accumulatedWaitingTime; // за завершенные периоды ожидания
+    private int readySince; // момент последнего перехода в READY
+
+    public ScheduledProcess(String id, int arrivalTime, int burstTime, int basePriority) {
+        this.id = id;
+        this.arrivalTime = arrivalTime;
+        this.burstTime = burstTime;
+        this.basePriority = basePriority;
+        this.remainingTime = burstTime;
+        this.effectivePriority = basePriority;
+        this.state = ProcessState.NEW;
+    }
+
+    /**
+     * Вернуть состояние выполнения к исходному (как у только что созданного процесса), без выделения памяти.
+     */
+    public void resetRuntime() {
+        remainingTime = burstTime;
+        effectivePriority = basePriority;
+        state = ProcessState.NEW;
+        startTime = UNSET;
+        finishTime = UNSET;
+        accumulatedWaitingTime = 0;
+        readySince = 0;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getBurstTime() {
+        return burstTime;
+    }
+
+    public int getBasePriority() {
+        return basePriority;
+    }
+
+    public int getRemainingTime() {
+        return remainingTime;
+    }
+
+    public void decrementRemainingTime() {
+        if (remainingTime > 0) {
+            remainingTime--;
+        }
+    }
+
+    public void decrementRemainingTime(int ticks) {
+        remainingTime = Math.max(0, remainingTime - ticks);
+    }
+
+    public int getEffectivePriority() {
+        return effectivePriority;
+    }
+
+    public void setEffectivePriority(int effectivePriority) {
+        this.effectivePriority = effectivePriority;
+    }
+
+    public void resetEffectivePriority() {
+        this.effectivePriority = basePriority;
+    }
+
+    public ProcessState getState() {
+        return state;
+    }
+
+    public void setState(ProcessState state) {
+        this.state = state;
+    }
+
+    /**
+     * Момент первой выдачи CPU или null, если процесс еще не выполнялся.
+     */
+    public Integer getStartTime() {
+        return startTime == UNSET ? null : startTime;
+    }
+
+    public void setStartTimeIfNotSet(int time) {
+        if (this.startTime == UNSET) {
+            this.startTime = time;
+        }
+    }
+
+    /**
+     * Момент завершения или null, если процесс еще не завершился.
+     */
+    public Integer getFinishTime() {
+        return finishTime == UNSET ? null : finishTime;
+    }
+
+    public void setFinishTime(int finishTime) {
+        this.finishTime = finishTime;
+    }
+
+    public int getWaitingTime() {
+        if (finishTime == UNSET) {
+            return 0;
+        }
+        return (finishTime - arrivalTime) - burstTime;
+    }
+
+    public int getTurnaroundTime() {
+        if (finishTime == UNSET) {
+            return 0;
+        }
+        return finishTime - arrivalTime;
+    }
+
+    /**
+     * Время ожидания в READY за уже завершенные периоды ожидания.
+     */
+    public int getAccumulatedWaitingTime() {
+        return accumulatedWaitingTime;
+    }
+
+    /**
+     * Время ожидания в READY к моменту now, включая текущий период ожидания.
+     */
+    public int getAccumulatedWaitingTime(int now) {
+        if (state == ProcessState.READY) {
+            return accumulatedWaitingTime + (now - readySince);
+        }
+        return accumulatedWaitingTime;
+    }
+
+    public int getReadySince() {
+        return readySince;
+    }
+
+    /**
+     * Перевести процесс в READY; ожидание отсчитывается от момента time.
+     */
+    public void enterReady(int time) {
+        this.state = ProcessState.READY;
+        this.readySince = time;
+    }
+
+    /**
+     * Закрыть текущий период ожидания в момент time (процесс получает CPU).
+     */
+    public void leaveReady(int time) {
+        this.accumulatedWaitingTime += time - readySince;
+    }
+
+    public boolean isFinished() {
+        return remainingTime <= 0;
+    }
+
+    /**
+     * Восстановить состояние выполнения из контрольной точки; startTime и finishTime -1 — не заданы.
+     */
+    public void restoreRuntime(int remainingTime, int effectivePriority, ProcessState state,
+                               int startTime, int finishTime, int accumulatedWaitingTime, int readySince) {
+        this.remainingTime = remainingTime;
+        this.effectivePriority = effectivePriority;
+        this.state = state;
+        this.startTime = startTime >= 0 ? startTime : UNSET;
+        this.finishTime = finishTime >= 0 ? finishTime : UNSET;
+        this.accumulatedWaitingTime = accumulatedWaitingTime;
+        this.readySince = readySince;
+    }
+}
@@ -0,0 +1,103 @@
+package com.nlbeglov.scheduler.model;
+
+import java.util.List;
+
+public class SimulationStats {
+
+    private final DistributionSummary waiting;
+    private final DistributionSummary turnaround;
+    private final long contextSwitches;
+    private final long preemptions;
+    private final long idleTicks;
+    private final long overheadTicks;
+
+    public SimulationStats(double avgWaitingTime, double avgTurnaroundTime,
+                           int maxWaitingTime, int maxTurnaroundTime) {
+        this(new DistributionSummary(0, avgWaitingTime, 0, maxWaitingTime, 0, 0, 0, 0),
+                new DistributionSummary(0, avgTurnaroundTime, 0, maxTurnaroundTime, 0, 0, 0, 0));
+    }
+
+    public SimulationStats(DistributionSummary waiting, DistributionSummary turnaround) {
+        this(waiting, turnaround, 0, 0, 0, 0);
+    }
+
+    public SimulationStats(DistributionSummary waiting, DistributionSummary turnaround,
+                           long contextSwitches, long preemptions, long idleTicks, long overheadTicks) {
+        this.waiting = waiting;
+        this.turnaround = turnaround;
+        this.contextSwitches = contextSwitches;
+        this.preemptions = preemptions;
+        this.idleTicks = idleTicks;
+        this.overheadTicks = overheadTicks;
+    }
+
+    public double getAvgWaitingTime() {
+        return waiting.getMean();
+    }
+
+    public double getAvgTurnaroundTime() {
+        return turnaround.getMean();
+    }
+
+    public int getMaxWaitingTime() {
+        return (int) waiting.getMax();
+    }
+
+    public int getMaxTurnaroundTime() {
+        return (int) turnaround.getMax();
+    }
+
+    public long getCount() {
+        return waiting.getCount();
+    }
+
+    /**
+     * Распределение времени ожидания: дисперсия и квантили p50/p90/p99/p99.9.
+     */
+    public DistributionSummary getWaiting() {
+        return waiting;
+    }
+
+    /**
+     * Распределение времени обращения: дисперсия и квантили p50/p90/p99/p99.9.
+     */
+    public DistributionSummary getTurnaround() {
+        return turnaround;
+    }
+
+    /**
+     * Сколько раз CPU выдавался процессу, включая выдачу после простоя.
+     */
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * Сколько из выдач CPU отобрали его у выполнявшегося процесса.
+     */
+    public long getPreemptions() {
+        return preemptions;
+    }
+
+    /**
+     * Такты, в которые CPU простаивал без готовых процессов.
+     */
+    public long getIdleTicks() {
+        return idleTicks;
+    }
+
+    /**
+     * Такты, потраченные на переключение контекста (SchedulerConfig.getContextSwitchCost() на выдачу).
+     */
+    public long getOverheadTicks() {
+        return overheadTicks;
+    }
+
+    public static SimulationStats fromProcesses(List<ScheduledProcess> processes) {
+        StatsAccumulator acc = new StatsAccumulator();
+        for (ScheduledProcess p : processes) {
+            acc.record(p);
+        }
+        return acc.toStats();
+    }
+}
@@ -0,0 +1,150 @@
+package com.nlbeglov.scheduler.model;
+
+/**
+ * Потоковый накопитель статистики: процессы подаются по мере завершения,
+ * память постоянна, накопители разных прогонов и потоков можно объединять через merge.
+ * Кроме распределений, считает переключения контекста, вытеснения, такты простоя и накладных расходов.
+ * Не потокобезопасен — каждому потоку свой накопитель.
+ */
+public class StatsAccumulator {
+
+    private final Metric waiting = new Metric();
+    private final Metric turnaround = new Metric();
+    private long contextSwitches;
+    private long preemptions;
+    private long idleTicks;
+    private long overheadTicks;
+
+    public void record(ScheduledProcess p) {
+        record(p.getWaitingTime(), p.getTurnaroundTime());
+    }
+
+    public void record(long waitingTime, long turnaroundTime) {
+        waiting.record(waitingTime);
+        turnaround.record(turnaroundTime);
+    }
+
+    public void recordContextSwitch() {
+        contextSwitches++;
+    }
+
+    public void recordPreemption() {
+        preemptions++;
+    }
+
+    public void recordIdle(long ticks) {
+        idleTicks += ticks;
+    }
+
+    public void recordOverhead(long ticks) {
+        overheadTicks += ticks;
+    }
+
+    public void merge(StatsAccumulator other) {
+        waiting.merge(other.waiting);
+        turnaround.merge(other.turnaround);
+        contextSwitches += other.contextSwitches;
+        preemptions += other.preemptions;
+        idleTicks += other.idleTicks;
+        overheadTicks += other.overheadTicks;
+    }
+
+    /**
+     * Заменить состояние точной копией other (merge в пустой накопитель может сдвинуть среднее на ulp).
+     */
+    public void copyFrom(StatsAccumulator other) {
+        waiting.copyFrom(other.waiting);
+        turnaround.copyFrom(other.turnaround);
+        contextSwitches = other.contextSwitches;
+        preemptions = other.preemptions;
+        idleTicks = other.idleTicks;
+        overheadTicks = other.overheadTicks;
+    }
+
+    public void clear() {
+        waiting.clear();
+        turnaround.clear();
+        contextSwitches = 0;
+        preemptions = 0;
+        idleTicks = 0;
+        overheadTicks = 0;
+    }
+
+    public long getCount() {
+        return waiting.count;
+    }
+
+    public SimulationStats toStats() {
+        return new SimulationStats(waiting.summary(), turnaround.summary(),
+                contextSwitches, preemptions, idleTicks, overheadTicks);
+    }
+
+    private static final class Metric {
+        private long count;
+        private long sum;
+        private long max;
+        // среднее и сумма квадратов отклонений (Уэлфорд), объединение — по формуле Чана
+        private double mean;
+        private double m2;
+        private final LogHistogram histogram = new LogHistogram();
+
+        void record(long value) {
+            count++;
+            sum += value;
+            if (value > max) max = value;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+            histogram.record(value);
+        }
+
+        void merge(Metric other) {
+            if (other.count == 0) {
+                return;
+            }
+            long total = count + other.count;
+            double delta = other.mean - mean;
+            m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+            mean += delta * other.count / total;
+            count = total;
+            sum += other.sum;
+            max = Math.max(max, other.max);
+            histogram.merge(other.histogram);
+        }
+
+        void copyFrom(Metric other) {
+            count = other.count;
+            sum = other.sum;
+            max = other.max;
+            mean = other.mean;
+            m2 = other.m2;
+            histogram.clear();
+            histogram.merge(other.histogram);
+        }
+
+        void clear() {
+            count = 0;
+            sum = 0;
+            max = 0;
+            mean = 0;
+            m2 = 0;
+            histogram.clear();
+        }
+
+        DistributionSummary summary() {
+            if (count == 0) {
+                return new DistributionSummary(0, 0, 0, 0, 0, 0, 0, 0);
+            }
+            return new DistributionSummary(
+                    count,
+                    sum * 1.0 / count,
+                    m2 / count,
+                    max,
+                    histogram.valueAtQuantile(0.5),
+                    histogram.valueAtQuantile(0.9),
+                    histogram.valueAtQuantile(0.99),
+                    histogram.valueAtQuantile(0.999)
+            );
+        }
+    }
+}
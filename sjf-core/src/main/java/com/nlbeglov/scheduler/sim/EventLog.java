@@ -0,0 +1,261 @@
+package com.nlbeglov.scheduler.sim;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Журнал симуляции: кольцевой буфер фиксированной емкости из структурированных записей
+ * (момент, вид, процесс, два числовых поля) в параллельных массивах. Добавление не создает
+ * объектов; строка собирается только при чтении через format — например, когда ее рисует ячейка списка.
+ * <p>
+ * Записи нумеруются сквозным порядковым номером: в буфере лежат номера [first(), end()).
+ * Пишется из потока симуляции, читается из UI, поэтому методы синхронизированы.
+ * Полный журнал можно параллельно сбрасывать в файл (spillTo): форматирование и запись
+ * идут в отдельном потоке.
+ */
+public class EventLog {
+
+    public enum Kind {
+        ARRIVAL,
+        /** a — текущий приоритет, b — остаток. */
+        DISPATCH,
+        /** a — прежний приоритет, b — новый. */
+        PRIORITY_AGED,
+        PREEMPT,
+        COMPLETE,
+        IDLE,
+        /** Готовая строка в subject. */
+        TEXT
+    }
+
+    private final Records ring;
+    private long first;
+    private long end;
+    private Spill spill;
+
+    public EventLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.ring = new Records(capacity);
+    }
+
+    public synchronized void add(int time, Kind kind, String subject, int a, int b) {
+        ring.set((int) (end % ring.capacity()), time, kind, subject, a, b);
+        end++;
+        if (end - first > ring.capacity()) {
+            first++;
+        }
+        if (spill != null) {
+            spill.pending.append(time, kind, subject, a, b);
+        }
+    }
+
+    public void add(int time, Kind kind, String subject) {
+        add(time, kind, subject, 0, 0);
+    }
+
+    public void addText(String text) {
+        add(0, Kind.TEXT, text, 0, 0);
+    }
+
+    /**
+     * Номер самой старой записи в буфере.
+     */
+    public synchronized long first() {
+        return first;
+    }
+
+    /**
+     * Номер, который получит следующая запись.
+     */
+    public synchronized long end() {
+        return end;
+    }
+
+    /**
+     * Текст записи seq или null, если она уже вытеснена из буфера.
+     */
+    public synchronized String format(long seq) {
+        if (seq < first || seq >= end) {
+            return null;
+        }
+        return ring.format((int) (seq % ring.capacity()));
+    }
+
+    /**
+     * Очистить буфер; нумерация продолжается, поэтому читатели видят очистку как удаление записей.
+     */
+    public synchronized void clear() {
+        first = end;
+    }
+
+    /**
+     * Начать сброс журнала в файл: сначала текущее содержимое буфера, затем все новые записи.
+     * Предыдущий сброс, если был, завершается.
+     */
+    public void spillTo(Path file) throws IOException {
+        stopSpill();
+        BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        Spill s = new Spill(out);
+        synchronized (this) {
+            for (long seq = first; seq < end; seq++) {
+                s.pending.copyFrom(ring, (int) (seq % ring.capacity()));
+            }
+            spill = s;
+        }
+        s.thread.start();
+    }
+
+    /**
+     * Дописать накопленное, закрыть файл и дождаться потока записи.
+     */
+    public void stopSpill() throws IOException {
+        Spill s;
+        synchronized (this) {
+            s = spill;
+            spill = null;
+        }
+        if (s != null) {
+            s.close();
+        }
+    }
+
+    private Records swapSpillBatch(Spill s) {
+        synchronized (this) {
+            Records batch = s.pending;
+            s.pending = s.drained;
+            s.drained = batch;
+            return batch;
+        }
+    }
+
+    private final class Spill {
+        private static final long FLUSH_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+        final BufferedWriter out;
+        final Thread thread;
+        // записи копируются в pending под блокировкой журнала, поток записи меняет буферы местами
+        Records pending = new Records(256);
+        Records drained = new Records(256);
+        volatile boolean closing;
+        IOException failure;
+
+        Spill(BufferedWriter out) {
+            this.out = out;
+            this.thread = new Thread(this::loop, "log-spill");
+            thread.setDaemon(true);
+        }
+
+        private void loop() {
+            try {
+                while (true) {
+                    boolean last = closing;
+                    Records batch = swapSpillBatch(this);
+                    for (int i = 0; i < batch.size; i++) {
+                        out.write(batch.format(i));
+                        out.newLine();
+                    }
+                    batch.size = 0;
+                    out.flush();
+                    if (last) {
+                        break;
+                    }
+                    LockSupport.parkNanos(FLUSH_PERIOD_NANOS);
+                }
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+
+        void close() throws IOException {
+            closing = true;
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while closing log spill", e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Записи в параллельных массивах; для кольца емкость фиксирована, для пачек сброса растет.
+     */
+    private static final class Records {
+        int[] times;
+        Kind[] kinds;
+        String[] subjects;
+        int[] as;
+        int[] bs;
+        int size;
+
+        Records(int capacity) {
+            times = new int[capacity];
+            kinds = new Kind[capacity];
+            subjects = new String[capacity];
+            as = new int[capacity];
+            bs = new int[capacity];
+        }
+
+        int capacity() {
+            return times.length;
+        }
+
+        void set(int i, int time, Kind kind, String subject, int a, int b) {
+            times[i] = time;
+            kinds[i] = kind;
+            subjects[i] = subject;
+            as[i] = a;
+            bs[i] = b;
+        }
+
+        void append(int time, Kind kind, String subject, int a, int b) {
+            if (size == times.length) {
+                int n = size * 2;
+                times = Arrays.copyOf(times, n);
+                kinds = Arrays.copyOf(kinds, n);
+                subjects = Arrays.copyOf(subjects, n);
+                as = Arrays.copyOf(as, n);
+                bs = Arrays.copyOf(bs, n);
+            }
+            set(size++, time, kind, subject, a, b);
+        }
+
+        void copyFrom(Records other, int i) {
+            append(other.times[i], other.kinds[i], other.subjects[i], other.as[i], other.bs[i]);
+        }
+
+        String format(int i) {
+            int t = times[i];
+            String s = subjects[i];
+            return switch (kinds[i]) {
+                case ARRIVAL -> "t=" + t + ": поступил " + s;
+                case DISPATCH -> "t=" + t + ": выполняется " + s + " (приор.=" + as[i] + ", осталось=" + bs[i] + ")";
+                case PRIORITY_AGED -> "t=" + t + ": приоритет " + s + " повышен старением " + as[i] + " → " + bs[i];
+                case PREEMPT -> "t=" + t + ": " + s + " вытеснен";
+                case COMPLETE -> "t=" + t + ": " + s + " завершен";
+                case IDLE -> "t=" + t + ": ЦП простаивает";
+                case TEXT -> s;
+            };
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.nlbeglov.scheduler.sim;
+
+import com.nlbeglov.scheduler.core.SchedulerEventListener;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+/**
+ * Слушатель SimulationEngine на уровне событий и отрезков выполнения.
+ * В отличие от SimulationListener, не вызывается на каждом такте:
+ * события планировщика приходят при смене решения, отрезки — когда они закончились.
+ */
+public interface SegmentListener extends SchedulerEventListener {
+
+    /**
+     * Ядро core непрерывно выполняло process на тактах [start, end); отрезок закончился
+     * вытеснением или завершением процесса (process.isFinished()).
+     */
+    default void onSegment(int core, ScheduledProcess process, int start, int end) {
+    }
+
+    /**
+     * Смоделированы такты [from, to). Вызывается один раз на SimulationEngine.step(),
+     * в событийном режиме — один раз на весь пропущенный интервал.
+     */
+    default void onClockAdvanced(int from, int to) {
+    }
+
+    default void onSimulationFinished() {
+    }
+}
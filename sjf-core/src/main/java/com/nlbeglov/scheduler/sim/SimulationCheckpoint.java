@@ -0,0 +1,31 @@
+package com.nlbeglov.scheduler.sim;
+
+import com.nlbeglov.scheduler.core.SchedulerCheckpoint;
+
+/**
+ * Контрольная точка движка: точка планировщика плюс время и начала открытых отрезков по ядрам.
+ */
+public final class SimulationCheckpoint {
+
+    private final SchedulerCheckpoint scheduler;
+    private final int time;
+    private final int[] segmentStart;
+
+    SimulationCheckpoint(SchedulerCheckpoint scheduler, int time, int[] segmentStart) {
+        this.scheduler = scheduler;
+        this.time = time;
+        this.segmentStart = segmentStart;
+    }
+
+    public SchedulerCheckpoint getScheduler() {
+        return scheduler;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    int segmentStart(int core) {
+        return segmentStart[core];
+    }
+}
@@ -0,0 +1,277 @@
+package com.nlbeglov.scheduler.sim;
+
+import com.nlbeglov.scheduler.core.Checkpointable;
+import com.nlbeglov.scheduler.core.Scheduler;
+import com.nlbeglov.scheduler.core.SchedulerEventListener;
+import com.nlbeglov.scheduler.jfr.EngineStepEvent;
+import com.nlbeglov.scheduler.model.ProcessSnapshot;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Продвигает планировщик по времени и оповещает слушателей двух видов:
+ * SegmentListener получает события планирования и отрезки выполнения (работа пропорциональна
+ * числу событий), SimulationListener — прежний потактовый интерфейс для совместимости.
+ * Если потактовых слушателей нет, событийный режим не проходит по пропущенным тактам вовсе.
+ */
+public class SimulationEngine {
+
+    private final Scheduler scheduler;
+    private final List<SimulationListener> listeners = new ArrayList<>();
+    private final List<SegmentListener> segmentListeners = new ArrayList<>();
+    private final int[] segmentStart;
+    private final ScheduledProcess[] onCores;
+    private final ScheduledProcess[] continuedOnCores;
+
+    private int time;
+    private boolean running;
+    private boolean eventDriven;
+    // растет с каждым событием планирования; по нему снимок переиспользуется
+    private long version;
+    private SimulationSnapshot lastSnapshot;
+    // обертка только для чтения над списком планировщика; создается заново, лишь когда список сменился
+    private List<ScheduledProcess> viewedProcesses;
+    private List<ScheduledProcess> processesView;
+
+    public SimulationEngine(Scheduler scheduler, SimulationListener listener) {
+        this(scheduler);
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Движок без потактового слушателя; наблюдатели подключаются через addSegmentListener.
+     * Движок становится получателем событий планировщика (Scheduler.setEventListener).
+     */
+    public SimulationEngine(Scheduler scheduler) {
+        this.scheduler = scheduler;
+        this.onCores = new ScheduledProcess[scheduler.getCoreCount()];
+        this.continuedOnCores = new ScheduledProcess[onCores.length];
+        this.segmentStart = new int[onCores.length];
+        this.time = 0;
+        this.running = false;
+        scheduler.setEventListener(new EventDispatcher());
+    }
+
+    public void reset() {
+        version++;
+        time = 0;
+        running = false;
+        scheduler.reset();
+    }
+
+    public void start() {
+        running = true;
+    }
+
+    public void pause() {
+        running = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Дополнительный потактовый слушатель; получает те же события, что и основной.
+     */
+    public void addListener(SimulationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void addSegmentListener(SegmentListener listener) {
+        segmentListeners.add(listener);
+    }
+
+    public boolean isEventDriven() {
+        return eventDriven;
+    }
+
+    /**
+     * В событийном режиме один вызов step() продвигает время сразу до следующей точки
+     * принятия решения планировщиком; потактовые слушатели по-прежнему получают событие на каждый такт.
+     */
+    public void setEventDriven(boolean eventDriven) {
+        this.eventDriven = eventDriven;
+    }
+
+    /**
+     * Один шаг симуляции. Вызывается из JavaFX Timeline.
+     */
+    public void step() {
+        if (!running) return;
+        if (scheduler.isFinished()) {
+            running = false;
+            for (SimulationListener listener : listeners) {
+                listener.onSimulationFinished();
+            }
+            for (SegmentListener listener : segmentListeners) {
+                listener.onSimulationFinished();
+            }
+            return;
+        }
+        int from = time;
+        EngineStepEvent jfr = EngineStepEvent.start();
+        if (listeners.isEmpty()) {
+            scheduler.step(time, onCores);
+            time++;
+            if (eventDriven) {
+                time = scheduler.fastForward(time);
+            }
+        } else {
+            stepPerTick();
+        }
+        jfr.finish(from, time, eventDriven);
+        for (SegmentListener listener : segmentListeners) {
+            listener.onClockAdvanced(from, time);
+        }
+    }
+
+    // совместимость: SimulationListener получает вызов на каждый такт
+    private void stepPerTick() {
+        scheduler.step(time, onCores);
+        // живое представление только для чтения, без копирования; согласованный вид — snapshot()
+        List<ScheduledProcess> snapshot = processesView();
+        fireCoresAdvanced(onCores, snapshot);
+        time++;
+        if (eventDriven) {
+            // пропущенные такты выполняют те же процессы, если они не завершились на шаге
+            for (int c = 0; c < onCores.length; c++) {
+                ScheduledProcess p = onCores[c];
+                continuedOnCores[c] = p != null && !p.isFinished() ? p : null;
+            }
+            int next = scheduler.fastForward(time);
+            for (; time < next; time++) {
+                fireCoresAdvanced(continuedOnCores, snapshot);
+            }
+        }
+    }
+
+    private void fireCoresAdvanced(ScheduledProcess[] running, List<ScheduledProcess> snapshot) {
+        for (SimulationListener listener : listeners) {
+            listener.onCoresAdvanced(time, running, snapshot);
+        }
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    /**
+     * Номер версии состояния: увеличивается при каждом событии планирования и сбросе.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Поддерживает ли планировщик контрольные точки (Checkpointable).
+     */
+    public boolean supportsCheckpoints() {
+        return scheduler instanceof Checkpointable;
+    }
+
+    /**
+     * Контрольная точка: см. Checkpointable.checkpoint(). Берется между шагами.
+     */
+    public SimulationCheckpoint checkpoint() {
+        return new SimulationCheckpoint(checkpointable().checkpoint(), time, segmentStart.clone());
+    }
+
+    /**
+     * Вернуться к контрольной точке; движок встает на паузу. Слушатели историю не получают —
+     * накопленное ими до восстановления (например, диаграмму) сбрасывает вызывающий.
+     */
+    public void restore(SimulationCheckpoint checkpoint) {
+        checkpointable().restore(checkpoint.getScheduler());
+        time = checkpoint.getTime();
+        for (int c = 0; c < segmentStart.length; c++) {
+            segmentStart[c] = checkpoint.segmentStart(c);
+        }
+        running = false;
+        version++;
+    }
+
+    private List<ScheduledProcess> processesView() {
+        List<ScheduledProcess> processes = scheduler.getAllProcesses();
+        if (processes != viewedProcesses) {
+            viewedProcesses = processes;
+            processesView = Collections.unmodifiableList(processes);
+        }
+        return processesView;
+    }
+
+    private Checkpointable checkpointable() {
+        if (!(scheduler instanceof Checkpointable c)) {
+            throw new IllegalStateException(scheduler.getClass().getSimpleName() + " does not support checkpoints");
+        }
+        return c;
+    }
+
+    /**
+     * Неизменяемый снимок процессов на текущий момент. Строится по запросу за O(n);
+     * пока не было событий и время не сдвинулось, возвращается тот же объект.
+     */
+    public SimulationSnapshot snapshot() {
+        SimulationSnapshot last = lastSnapshot;
+        if (last != null && last.getVersion() == version && last.getTime() == time) {
+            return last;
+        }
+        List<ScheduledProcess> processes = scheduler.getAllProcesses();
+        List<ProcessSnapshot> copy = new ArrayList<>(processes.size());
+        for (ScheduledProcess p : processes) {
+            copy.add(new ProcessSnapshot(p));
+        }
+        lastSnapshot = new SimulationSnapshot(version, time, Collections.unmodifiableList(copy));
+        return lastSnapshot;
+    }
+
+    // пересылает события планировщика и собирает из них отрезки выполнения по ядрам
+    private class EventDispatcher implements SchedulerEventListener {
+
+        @Override
+        public void onArrival(int time, ScheduledProcess process) {
+            version++;
+            for (SegmentListener listener : segmentListeners) {
+                listener.onArrival(time, process);
+            }
+        }
+
+        @Override
+        public void onDispatch(int time, int core, ScheduledProcess process) {
+            version++;
+            segmentStart[core] = time;
+            for (SegmentListener listener : segmentListeners) {
+                listener.onDispatch(time, core, process);
+            }
+        }
+
+        @Override
+        public void onPreempt(int time, int core, ScheduledProcess process) {
+            version++;
+            for (SegmentListener listener : segmentListeners) {
+                listener.onPreempt(time, core, process);
+                listener.onSegment(core, process, segmentStart[core], time);
+            }
+        }
+
+        @Override
+        public void onComplete(int time, int core, ScheduledProcess process) {
+            version++;
+            for (SegmentListener listener : segmentListeners) {
+                listener.onComplete(time, core, process);
+                listener.onSegment(core, process, segmentStart[core], time);
+            }
+        }
+
+        @Override
+        public void onPriorityAged(int time, ScheduledProcess process, int oldPriority) {
+            version++;
+            for (SegmentListener listener : segmentListeners) {
+                listener.onPriorityAged(time, process, oldPriority);
+            }
+        }
+    }
+}
\ No newline at end of file
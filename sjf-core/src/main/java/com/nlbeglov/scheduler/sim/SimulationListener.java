@@ -0,0 +1,27 @@
+package com.nlbeglov.scheduler.sim;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+import java.util.List;
+
+/**
+ * Потактовый слушатель (совместимость). snapshot — живое представление Scheduler.getAllProcesses()
+ * только для чтения: объекты процессов изменяются дальше. Для согласованного вида есть
+ * SimulationEngine.snapshot(), для событий — SegmentListener.
+ */
+public interface SimulationListener {
+
+    void onTimeAdvanced(int time, ScheduledProcess runningProcess, List<ScheduledProcess> snapshot);
+
+    /**
+     * Такт многоядерной симуляции: running[core] — процесс на ядре core или null.
+     * По умолчанию передает процесс ядра 0 в onTimeAdvanced.
+     */
+    default void onCoresAdvanced(int time, ScheduledProcess[] running, List<ScheduledProcess> snapshot) {
+        onTimeAdvanced(time, running[0], snapshot);
+    }
+
+    void onLogEvent(String message);
+
+    void onSimulationFinished();
+}
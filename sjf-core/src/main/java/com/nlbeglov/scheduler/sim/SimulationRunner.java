@@ -0,0 +1,189 @@
+package com.nlbeglov.scheduler.sim;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Выполняет SimulationEngine в отдельном потоке с заданной скоростью — от реального времени
+ * до «как можно быстрее» (турбо). Команды (execute) и шаги потока симуляции идут под одной блокировкой,
+ * поэтому pause, step и reset точны: после возврата pause() ни один шаг больше не выполнится.
+ * <p>
+ * UI блокировку не берет: движок — рабочий буфер потока симуляции, а для чтения поток
+ * не чаще раза в кадр публикует неизменяемый SimulationSnapshot через volatile-ссылку (snapshot()).
+ * После каждой команды и остановки движка снимок публикуется сразу.
+ * Слушатели движка вызываются в потоке симуляции; передавать данные в UI — их забота
+ * (см. MainController и GanttModel).
+ */
+public class SimulationRunner {
+
+    public static final double TURBO = Double.POSITIVE_INFINITY;
+
+    // в турбо-режиме блокировка отпускается после стольких наносекунд работы, чтобы UI мог читать
+    private static final long TURBO_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    // если поток отстал от графика больше чем на столько, график сдвигается, а не догоняется
+    private static final long MAX_LAG_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // снимок для UI публикуется не чаще раза в кадр
+    private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+
+    private final SimulationEngine engine;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition started = lock.newCondition();
+    private final Thread thread;
+
+    private volatile double ticksPerSecond = 5;
+    private volatile boolean shutdown;
+    private volatile SimulationSnapshot published;
+    private long publishedAt;
+
+    public SimulationRunner(SimulationEngine engine) {
+        this.engine = engine;
+        this.published = engine.snapshot();
+        this.publishedAt = System.nanoTime();
+        this.thread = new Thread(this::loop, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Скорость в тактах модели в секунду; TURBO — без пауз, с пропуском тактов между событиями.
+     */
+    public void setTicksPerSecond(double ticksPerSecond) {
+        if (!(ticksPerSecond > 0)) {
+            throw new IllegalArgumentException("ticksPerSecond must be positive: " + ticksPerSecond);
+        }
+        execute(() -> {
+            this.ticksPerSecond = ticksPerSecond;
+            engine.setEventDriven(ticksPerSecond == TURBO);
+        });
+        // прервать ожидание по старому графику
+        LockSupport.unpark(thread);
+    }
+
+    public double getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    public void start() {
+        execute(() -> {
+            engine.start();
+            started.signalAll();
+        });
+    }
+
+    public void pause() {
+        execute(engine::pause);
+    }
+
+    /**
+     * Ровно один шаг движка в вызывающем потоке; фоновое выполнение при этом приостанавливается.
+     */
+    public void step() {
+        execute(() -> {
+            engine.start();
+            engine.step();
+            engine.pause();
+        });
+    }
+
+    public void reset() {
+        execute(engine::reset);
+    }
+
+    public boolean isRunning() {
+        return query(engine::isRunning);
+    }
+
+    /**
+     * Последний опубликованный снимок; читается без блокировки и отстает от движка не больше чем на кадр.
+     */
+    public SimulationSnapshot snapshot() {
+        return published;
+    }
+
+    /**
+     * Выполнить action под блокировкой движка в вызывающем потоке (например, перезагрузить процессы);
+     * результат сразу публикуется в snapshot().
+     */
+    public void execute(Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+            publish(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Прочитать состояние под блокировкой движка, когда опубликованного снимка недостаточно.
+     */
+    public <T> T query(Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        execute(started::signalAll);
+    }
+
+    // вызывается под блокировкой; engine.snapshot() не пересобирает снимок, если состояние не менялось
+    private void publish(boolean force) {
+        long now = System.nanoTime();
+        if (force || now - publishedAt >= FRAME_NANOS) {
+            published = engine.snapshot();
+            publishedAt = now;
+        }
+    }
+
+    private void loop() {
+        long deadline = System.nanoTime();
+        double speed;
+        while (!shutdown) {
+            lock.lock();
+            try {
+                while (!engine.isRunning() && !shutdown) {
+                    started.awaitUninterruptibly();
+                    deadline = System.nanoTime();
+                }
+                if (shutdown) {
+                    return;
+                }
+                speed = ticksPerSecond;
+                if (speed == TURBO) {
+                    long sliceEnd = System.nanoTime() + TURBO_SLICE_NANOS;
+                    do {
+                        engine.step();
+                    } while (engine.isRunning() && System.nanoTime() < sliceEnd);
+                    publish(!engine.isRunning());
+                    continue;
+                }
+                int before = engine.getTime();
+                engine.step();
+                deadline += (long) ((engine.getTime() - before) * 1e9 / speed);
+                publish(!engine.isRunning());
+            } finally {
+                lock.unlock();
+            }
+            long now = System.nanoTime();
+            if (now - deadline > MAX_LAG_NANOS) {
+                deadline = now;
+            }
+            while (deadline - System.nanoTime() > 0 && !shutdown) {
+                if (ticksPerSecond != speed) {
+                    deadline = System.nanoTime();
+                    break;
+                }
+                // ожидание без блокировки: в это время UI свободно читает состояние
+                LockSupport.parkNanos(deadline - System.nanoTime());
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.nlbeglov.scheduler.sim;
+
+import com.nlbeglov.scheduler.model.ProcessSnapshot;
+
+import java.util.List;
+
+/**
+ * Согласованный неизменяемый снимок симуляции. version растет с каждым событием планирования;
+ * два снимка с одинаковыми version и time описывают одно и то же состояние.
+ */
+public final class SimulationSnapshot {
+
+    private final long version;
+    private final int time;
+    private final List<ProcessSnapshot> processes;
+
+    SimulationSnapshot(long version, int time, List<ProcessSnapshot> processes) {
+        this.version = version;
+        this.time = time;
+        this.processes = processes;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    /**
+     * Процессы в порядке Scheduler.getAllProcesses(); список неизменяемый.
+     */
+    public List<ProcessSnapshot> getProcesses() {
+        return processes;
+    }
+}
@@ -0,0 +1,226 @@
+package com.nlbeglov.scheduler.testing;
+
+import com.nlbeglov.scheduler.core.ProcessSource;
+import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
+import com.nlbeglov.scheduler.core.Scheduler;
+import com.nlbeglov.scheduler.core.SchedulerCheckpoint;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ProcessArena;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class LoadTester {
+
+    // прогоны на поток за одну задачу: достаточно мелко для балансировки, достаточно крупно,
+    // чтобы буферы движка переиспользовались
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final long seed;
+
+    public LoadTester() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Все нагрузки runMany выводятся из одного главного зерна,
+     * поэтому результаты воспроизводимы и не зависят от числа потоков.
+     */
+    public LoadTester(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Переданные процессы не меняются: прогон идет на их копии. Для повторных прогонов
+     * одной нагрузки держите ProcessArena и вызывайте runSingle(arena, config).
+     */
+    public SimulationStats runSingle(List<ScheduledProcess> processes,
+                                     SchedulerConfig config) {
+        return runSingle(new ProcessArena(processes), config);
+    }
+
+    /**
+     * Прогон нагрузки арены; процессы сбрасываются на месте, новые объекты не создаются.
+     */
+    public SimulationStats runSingle(ProcessArena arena, SchedulerConfig config) {
+        return runSingle(new SJFWithPriorityScheduler(), arena, config);
+    }
+
+    /**
+     * Прогон той же нагрузки на другом планировщике (например, FairScheduler) —
+     * для сравнения политик на одинаковых данных. Переданные процессы не меняются.
+     */
+    public SimulationStats runSingle(Scheduler scheduler, List<ScheduledProcess> processes,
+                                     SchedulerConfig config) {
+        return runSingle(scheduler, new ProcessArena(processes), config);
+    }
+
+    public SimulationStats runSingle(Scheduler scheduler, ProcessArena arena, SchedulerConfig config) {
+        scheduler.setConfig(config);
+        scheduler.setProcesses(arena.processes());
+        return runToEnd(scheduler);
+    }
+
+    /**
+     * Одна нагрузка под несколькими конфигурациями: процессы копируются один раз,
+     * между прогонами состояние сбрасывается на месте.
+     */
+    public List<SimulationStats> runConfigs(List<ScheduledProcess> processes, List<SchedulerConfig> configs) {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setProcesses(new ProcessArena(processes).processes());
+        List<SimulationStats> results = new ArrayList<>(configs.size());
+        for (SchedulerConfig config : configs) {
+            scheduler.setConfig(config);
+            scheduler.reset();
+            results.add(runToEnd(scheduler));
+        }
+        return results;
+    }
+
+    // событийный режим: между точками принятия решений время пропускается целиком
+    private static SimulationStats runToEnd(Scheduler scheduler) {
+        int time = 0;
+        while (!scheduler.isFinished()) {
+            scheduler.step(time);
+            time = scheduler.fastForward(time + 1);
+        }
+        return scheduler.getStatistics();
+    }
+
+    /**
+     * Прогон потоковой нагрузки (например, TraceReader): в памяти держатся только
+     * процессы, находящиеся в системе.
+     */
+    public SimulationStats runSource(ProcessSource source, SchedulerConfig config) {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(config);
+        scheduler.setProcessSource(source);
+        return runToEnd(scheduler);
+    }
+
+    /**
+     * Продолжить прогон из контрольной точки с другой конфигурацией: ответвление не повторяет
+     * такты до точки, а исходный планировщик и другие ответвления не меняются.
+     */
+    public SimulationStats runFrom(SchedulerCheckpoint checkpoint, SchedulerConfig config) {
+        SJFWithPriorityScheduler scheduler = SJFWithPriorityScheduler.fork(checkpoint, config);
+        int time = checkpoint.getTime();
+        while (!scheduler.isFinished()) {
+            scheduler.step(time);
+            time = scheduler.fastForward(time + 1);
+        }
+        return scheduler.getStatistics();
+    }
+
+    public List<SimulationStats> runMany(int runs,
+                                         int processCount,
+                                         int maxArrival,
+                                         int minBurst, int maxBurst,
+                                         int minPriority, int maxPriority,
+                                         SchedulerConfig config) {
+        return runMany(runs, processCount, maxArrival, minBurst, maxBurst,
+                minPriority, maxPriority, config, 1);
+    }
+
+    /**
+     * То же, что runMany, но прогоны распределяются по parallelism потокам ForkJoinPool.
+     * Прогон i всегда получает нагрузку из собственного зерна, выведенного из главного,
+     * поэтому результат (в том же порядке) побитово совпадает при любом числе потоков.
+     */
+    public List<SimulationStats> runMany(int runs,
+                                         int processCount,
+                                         int maxArrival,
+                                         int minBurst, int maxBurst,
+                                         int minPriority, int maxPriority,
+                                         SchedulerConfig config,
+                                         int parallelism) {
+        long[] runSeeds = runSeeds(runs);
+        SimulationStats[] results = new SimulationStats[runs];
+        if (parallelism <= 1 || runs <= 1) {
+            runRange(runSeeds, 0, runs, results, processCount, maxArrival,
+                    minBurst, maxBurst, minPriority, maxPriority, config);
+            return Arrays.asList(results);
+        }
+
+        int chunk = Math.max(1, runs / (parallelism * TASKS_PER_THREAD));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int from = 0; from < runs; from += chunk) {
+                int lo = from;
+                int hi = Math.min(runs, from + chunk);
+                tasks.add(pool.submit(() -> runRange(runSeeds, lo, hi, results, processCount, maxArrival,
+                        minBurst, maxBurst, minPriority, maxPriority, config)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * runMany на другом планировщике (например, MlfqScheduler): прогон i получает ту же нагрузку,
+     * что и в runMany с тем же зерном, поэтому результаты сравнимы с SJF попарно.
+     * Прогоны идут последовательно через один экземпляр планировщика.
+     */
+    public List<SimulationStats> runMany(Scheduler scheduler, int runs,
+                                         int processCount,
+                                         int maxArrival,
+                                         int minBurst, int maxBurst,
+                                         int minPriority, int maxPriority,
+                                         SchedulerConfig config) {
+        long[] runSeeds = runSeeds(runs);
+        List<SimulationStats> results = new ArrayList<>(runs);
+        scheduler.setConfig(config);
+        for (int i = 0; i < runs; i++) {
+            scheduler.setProcesses(new RandomWorkloadGenerator(runSeeds[i]).generate(processCount,
+                    maxArrival, minBurst, maxBurst, minPriority, maxPriority));
+            results.add(runToEnd(scheduler));
+        }
+        return results;
+    }
+
+    /**
+     * Зерна прогонов: последовательность SplittableRandom от главного зерна.
+     */
+    public long[] runSeeds(int runs) {
+        SplittableRandom master = new SplittableRandom(seed);
+        long[] seeds = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            seeds[i] = master.nextLong();
+        }
+        return seeds;
+    }
+
+    // пакетный путь: нагрузка в примитивных массивах, буферы общие для всех прогонов диапазона
+    private static void runRange(long[] runSeeds, int from, int to, SimulationStats[] results,
+                                 int processCount, int maxArrival,
+                                 int minBurst, int maxBurst,
+                                 int minPriority, int maxPriority,
+                                 SchedulerConfig config) {
+        PrimitiveBatchEngine engine = new PrimitiveBatchEngine();
+        int[] arrivals = new int[processCount];
+        int[] bursts = new int[processCount];
+        int[] priorities = new int[processCount];
+        for (int i = from; i < to; i++) {
+            new RandomWorkloadGenerator(runSeeds[i]).generateInto(arrivals, bursts, priorities, processCount,
+                    maxArrival, minBurst, maxBurst, minPriority, maxPriority);
+            engine.load(arrivals, bursts, priorities, processCount);
+            results[i] = engine.run(config);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.nlbeglov.scheduler.testing;
+
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.model.SimulationStats;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Перебор SweepGrid: для каждой формы нагрузки генерируется runsPerCell нагрузок, и каждая
+ * прогоняется через все конфигурации сетки — сравнение конфигураций идет на одинаковых данных.
+ * Задачи (форма × пачка прогонов) выполняются параллельно; строки формы пишутся в CSV,
+ * как только посчитаны все ее прогоны.
+ * <p>
+ * Если файл результата уже есть, перебор продолжается: посчитанные ячейки пропускаются,
+ * оборванная последняя строка отбрасывается. Нагрузки выводятся из зерна и номера формы,
+ * поэтому продолженный перебор дает те же числа, что и непрерывный.
+ */
+public class ParameterSweep {
+
+    public static final String HEADER = "cell,processCount,maxArrival,minBurst,maxBurst,minPriority,maxPriority,"
+            + "mode,aging,agingInterval,runs,avgWaiting,avgTurnaround,p99Waiting,maxWaiting";
+
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final long seed;
+    private final int runsPerCell;
+    private final int parallelism;
+
+    public ParameterSweep(long seed, int runsPerCell, int parallelism) {
+        if (runsPerCell <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("runsPerCell and parallelism must be positive");
+        }
+        this.seed = seed;
+        this.runsPerCell = runsPerCell;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Посчитать недостающие ячейки сетки и дописать их в output.
+     *
+     * @return число ячеек, посчитанных этим вызовом
+     */
+    public int run(SweepGrid grid, Path output) throws IOException {
+        String banner = "# sweep seed=" + seed + " runs=" + runsPerCell + " cells=" + grid.size();
+        BitSet done = Files.exists(output) ? readDone(grid, output, banner) : new BitSet();
+
+        List<Integer> pendingShapes = new ArrayList<>();
+        for (int s = 0; s < grid.getShapes().size(); s++) {
+            int firstCell = s * grid.configCount();
+            if (done.nextClearBit(firstCell) < firstCell + grid.configCount()) {
+                pendingShapes.add(s);
+            }
+        }
+
+        try (BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (done.isEmpty() && Files.size(output) == 0) {
+                out.write(banner);
+                out.newLine();
+                out.write(HEADER);
+                out.newLine();
+                out.flush();
+            }
+            if (pendingShapes.isEmpty()) {
+                return 0;
+            }
+            return runShapes(grid, pendingShapes, done, out);
+        }
+    }
+
+    private int runShapes(SweepGrid grid, List<Integer> pendingShapes, BitSet done, BufferedWriter out)
+            throws IOException {
+        int chunk = Math.max(1, runsPerCell * pendingShapes.size() / (parallelism * TASKS_PER_THREAD));
+        AtomicInteger written = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int s : pendingShapes) {
+                ShapeRuns shape = new ShapeRuns(grid, s, done, (runsPerCell + chunk - 1) / chunk);
+                for (int from = 0; from < runsPerCell; from += chunk) {
+                    int lo = from;
+                    int hi = Math.min(runsPerCell, from + chunk);
+                    tasks.add(pool.submit(() -> {
+                        shape.run(lo, hi);
+                        if (shape.pendingChunks.decrementAndGet() == 0) {
+                            written.addAndGet(shape.writeRows(out));
+                        }
+                    }));
+                }
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        return written.get();
+    }
+
+    /**
+     * Зерно прогонов формы: не зависит от остальных форм, поэтому продолжение не меняет нагрузки.
+     */
+    private long shapeSeed(int shape) {
+        return new SplittableRandom(seed + shape * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    // результаты одной формы: по прогону на каждую еще не посчитанную конфигурацию
+    private final class ShapeRuns {
+        final SweepGrid grid;
+        final int shape;
+        final int[] configs;
+        final double[][] avgWaiting;
+        final double[][] avgTurnaround;
+        final long[][] p99Waiting;
+        final int[][] maxWaiting;
+        final long[] runSeeds;
+        final AtomicInteger pendingChunks;
+
+        ShapeRuns(SweepGrid grid, int shape, BitSet done, int chunks) {
+            this.grid = grid;
+            this.shape = shape;
+            int firstCell = shape * grid.configCount();
+            this.configs = IntStream.range(0, grid.configCount())
+                    .filter(c -> !done.get(firstCell + c))
+                    .toArray();
+            this.avgWaiting = new double[configs.length][runsPerCell];
+            this.avgTurnaround = new double[configs.length][runsPerCell];
+            this.p99Waiting = new long[configs.length][runsPerCell];
+            this.maxWaiting = new int[configs.length][runsPerCell];
+            this.runSeeds = new LoadTester(shapeSeed(shape)).runSeeds(runsPerCell);
+            this.pendingChunks = new AtomicInteger(chunks);
+        }
+
+        void run(int from, int to) {
+            WorkloadShape w = grid.getShapes().get(shape);
+            PrimitiveBatchEngine engine = new PrimitiveBatchEngine();
+            int[] arrivals = new int[w.processCount()];
+            int[] bursts = new int[w.processCount()];
+            int[] priorities = new int[w.processCount()];
+            for (int r = from; r < to; r++) {
+                new RandomWorkloadGenerator(runSeeds[r]).generateInto(arrivals, bursts, priorities,
+                        w.processCount(), w.maxArrival(), w.minBurst(), w.maxBurst(), w.minPriority(), w.maxPriority());
+                // нагрузка загружается один раз и прогоняется всеми конфигурациями
+                engine.load(arrivals, bursts, priorities, w.processCount());
+                for (int c = 0; c < configs.length; c++) {
+                    SimulationStats stats = engine.run(grid.getConfigs().get(configs[c]));
+                    avgWaiting[c][r] = stats.getAvgWaitingTime();
+                    avgTurnaround[c][r] = stats.getAvgTurnaroundTime();
+                    p99Waiting[c][r] = stats.getWaiting().getP99();
+                    maxWaiting[c][r] = stats.getMaxWaitingTime();
+                }
+            }
+        }
+
+        int writeRows(BufferedWriter out) {
+            StringBuilder rows = new StringBuilder();
+            for (int c = 0; c < configs.length; c++) {
+                double w = 0;
+                double t = 0;
+                double p99 = 0;
+                int max = 0;
+                for (int r = 0; r < runsPerCell; r++) {
+                    w += avgWaiting[c][r];
+                    t += avgTurnaround[c][r];
+                    p99 += p99Waiting[c][r];
+                    max = Math.max(max, maxWaiting[c][r]);
+                }
+                int cell = shape * grid.configCount() + configs[c];
+                rows.append(cellPrefix(grid, cell)).append(',').append(runsPerCell)
+                        .append(String.format(Locale.ROOT, ",%.4f,%.4f,%.2f,%d%n",
+                                w / runsPerCell, t / runsPerCell, p99 / runsPerCell, max));
+            }
+            // строки одной формы пишутся одним блоком, файл сбрасывается после каждого блока
+            synchronized (out) {
+                try {
+                    out.write(rows.toString());
+                    out.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return configs.length;
+        }
+    }
+
+    // номер ячейки и ее параметры — по ним при продолжении проверяется, что сетка та же
+    private static String cellPrefix(SweepGrid grid, int cell) {
+        WorkloadShape w = grid.shapeOf(cell);
+        SchedulerConfig c = grid.configOf(cell);
+        return cell + "," + w.processCount() + "," + w.maxArrival() + "," + w.minBurst() + "," + w.maxBurst()
+                + "," + w.minPriority() + "," + w.maxPriority() + "," + c.getMode() + "," + c.isAgingEnabled()
+                + "," + c.getAgingInterval();
+    }
+
+    private BitSet readDone(SweepGrid grid, Path output, String banner) throws IOException {
+        dropPartialLine(output);
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        BitSet done = new BitSet(grid.size());
+        if (lines.isEmpty()) {
+            return done;
+        }
+        if (lines.size() < 2 || !lines.get(0).equals(banner) || !lines.get(1).equals(HEADER)) {
+            throw new IllegalArgumentException(output + " was written by a different sweep (expected '" + banner + "')");
+        }
+        for (int i = 2; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comma = line.indexOf(',');
+            int cell = Integer.parseInt(line.substring(0, comma));
+            if (cell < 0 || cell >= grid.size() || !line.startsWith(cellPrefix(grid, cell) + ",")) {
+                throw new IllegalArgumentException(output + ":" + (i + 1) + " does not match the sweep grid: " + line);
+            }
+            done.set(cell);
+        }
+        return done;
+    }
+
+    // прерванная запись оставляет строку без перевода строки — она отбрасывается
+    private static void dropPartialLine(Path output) throws IOException {
+        try (FileChannel ch = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = ch.size();
+            ByteBuffer one = ByteBuffer.allocate(1);
+            long end = size;
+            while (end > 0) {
+                one.clear();
+                ch.read(one, end - 1);
+                if (one.get(0) == '\n') {
+                    break;
+                }
+                end--;
+            }
+            if (end < size) {
+                ch.truncate(end);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.nlbeglov.scheduler.testing;
+
+import com.nlbeglov.scheduler.core.ReadyQueue;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingPolicy;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.model.StatsAccumulator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Безголовый движок для пакетных прогонов: та же политика (SchedulingPolicy из конфигурации),
+ * что и в SJFWithPriorityScheduler, но нагрузка хранится в параллельных примитивных массивах
+ * без объектов на процесс. Буферы переиспользуются между прогонами,
+ * поэтому повторный run() не выделяет память.
+ * Время продвигается по событиям, как в LoadTester.runSingle.
+ */
+public class PrimitiveBatchEngine {
+
+    private static final byte NEW = 0;
+    private static final byte READY = 1;
+    private static final byte RUNNING = 2;
+    private static final byte FINISHED = 3;
+
+    // описание нагрузки, отсортированное по прибытию
+    private int[] arrival = new int[0];
+    private int[] burst = new int[0];
+    private int[] priority = new int[0];
+    private int count;
+
+    // состояние прогона
+    private int[] remaining = new int[0];
+    private byte[] state = new byte[0];
+    private int[] start = new int[0];
+    private int[] finish = new int[0];
+    private int[] readySince = new int[0];
+    private int[] waited = new int[0];
+
+    private final ReadyQueue ready = new ReadyQueue();
+    private final StatsAccumulator stats = new StatsAccumulator();
+
+    public int size() {
+        return count;
+    }
+
+    public void load(List<ScheduledProcess> processes) {
+        int n = processes.size();
+        int[] a = new int[n];
+        int[] b = new int[n];
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            ScheduledProcess proc = processes.get(i);
+            a[i] = proc.getArrivalTime();
+            b[i] = proc.getBurstTime();
+            p[i] = proc.getBasePriority();
+        }
+        load(a, b, p, n);
+    }
+
+    /**
+     * Загрузить нагрузку из первых count элементов массивов. Массивы не сохраняются.
+     * Порядок процессов с одинаковым прибытием сохраняется, как при сортировке в setProcesses.
+     */
+    public void load(int[] arrivals, int[] bursts, int[] priorities, int count) {
+        ensureCapacity(count);
+        // стабильная сортировка по прибытию: (arrival, index) в одном long
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) arrivals[i] << 32) | i;
+        }
+        Arrays.sort(order);
+        for (int i = 0; i < count; i++) {
+            int src = (int) order[i];
+            arrival[i] = arrivals[src];
+            burst[i] = bursts[src];
+            priority[i] = priorities[src];
+        }
+        this.count = count;
+    }
+
+    private void ensureCapacity(int n) {
+        if (arrival.length >= n) {
+            return;
+        }
+        arrival = new int[n];
+        burst = new int[n];
+        priority = new int[n];
+        remaining = new int[n];
+        state = new byte[n];
+        start = new int[n];
+        finish = new int[n];
+        readySince = new int[n];
+        waited = new int[n];
+    }
+
+    /**
+     * Прогнать загруженную нагрузку с заданной конфигурацией.
+     */
+    public SimulationStats run(SchedulerConfig config) {
+        int n = count;
+        System.arraycopy(burst, 0, remaining, 0, n);
+        Arrays.fill(state, 0, n, NEW);
+        Arrays.fill(start, 0, n, -1);
+        Arrays.fill(finish, 0, n, -1);
+        Arrays.fill(waited, 0, n, 0);
+        SchedulingPolicy policy = config.getPolicy();
+        ready.configure(policy, config.isAgingEnabled(), config.getAgingInterval());
+        stats.clear();
+        boolean preemptive = config.getMode() == SchedulingMode.PREEMPTIVE;
+        int switchCost = config.getContextSwitchCost();
+
+        int cursor = 0;
+        int finished = 0;
+        int current = -1;
+        int currentPriority = 0;
+        int switchEnd = 0; // первый полезный такт текущего процесса, до него включительно он не вытесняется
+        int time = 0;
+        while (finished < n) {
+            // NEW → READY
+            while (cursor < n && arrival[cursor] <= time) {
+                state[cursor] = READY;
+                readySince[cursor] = arrival[cursor];
+                ready.add(cursor, priority[cursor], remaining[cursor], arrival[cursor], time);
+                cursor++;
+            }
+
+            if (current < 0 || preemptive && time > switchEnd) {
+                int candidate = ready.peek(time);
+                if (candidate >= 0 && (current < 0
+                        || policy.preempts(ready.peekKey(), policy.key(currentPriority, remaining[current])))) {
+                    ready.poll(time);
+                    int preempted = current;
+                    current = candidate;
+                    currentPriority = ready.peekPriority();
+                    waited[current] += time - readySince[current];
+                    if (start[current] < 0) {
+                        start[current] = time;
+                    }
+                    state[current] = RUNNING;
+                    switchEnd = time + switchCost;
+                    stats.recordContextSwitch();
+                    if (preempted >= 0) {
+                        stats.recordPreemption();
+                        state[preempted] = READY;
+                        readySince[preempted] = time;
+                        ready.add(preempted, priority[preempted], remaining[preempted],
+                                time - waited[preempted], time);
+                    }
+                }
+            }
+
+            if (current < 0) {
+                // CPU простаивает до следующего прибытия
+                stats.recordIdle(arrival[cursor] - time);
+                time = arrival[cursor];
+                continue;
+            }
+
+            // текущий процесс выполняется как минимум один такт, затем до ближайшего события
+            int overheadLeft = Math.max(0, switchEnd - time);
+            int end = time + overheadLeft + Math.max(remaining[current], 1);
+            if (preemptive) {
+                if (cursor < n) {
+                    end = Math.min(end, arrival[cursor]);
+                }
+                end = Math.min(end, ready.nextAgingTime(time + 1));
+                if (switchCost > 0) {
+                    end = Math.min(end, Math.max(switchEnd + 1, time + 1));
+                }
+            }
+            int overhead = Math.min(overheadLeft, end - time);
+            stats.recordOverhead(overhead);
+            int worked = end - time - overhead;
+            remaining[current] -= worked;
+            time = end;
+            if (worked > 0 && remaining[current] <= 0) {
+                remaining[current] = 0;
+                finish[current] = time;
+                state[current] = FINISHED;
+                long turnaround = (long) time - arrival[current];
+                stats.record(turnaround - burst[current], turnaround);
+                current = -1;
+                finished++;
+            }
+        }
+        return stats.toStats();
+    }
+
+    /**
+     * Время завершения index-го по прибытию процесса в последнем прогоне.
+     */
+    public int getFinishTime(int index) {
+        return finish[index];
+    }
+
+    public int getStartTime(int index) {
+        return start[index];
+    }
+}
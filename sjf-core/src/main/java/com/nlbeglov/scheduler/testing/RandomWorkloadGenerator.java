@@ -0,0 +1,56 @@
+package com.nlbeglov.scheduler.testing;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class RandomWorkloadGenerator {
+
+    private final SplittableRandom random;
+
+    public RandomWorkloadGenerator() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Генератор с фиксированным зерном: одинаковое зерно дает одинаковую нагрузку.
+     */
+    public RandomWorkloadGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public RandomWorkloadGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    public List<ScheduledProcess> generate(int count,
+                                           int maxArrival,
+                                           int minBurst, int maxBurst,
+                                           int minPriority, int maxPriority) {
+        List<ScheduledProcess> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int arrival = random.nextInt(maxArrival + 1);
+            int burst = minBurst + random.nextInt(maxBurst - minBurst + 1);
+            int priority = minPriority + random.nextInt(maxPriority - minPriority + 1);
+            String id = "P" + (i + 1);
+            list.add(new ScheduledProcess(id, arrival, burst, priority));
+        }
+        return list;
+    }
+
+    /**
+     * Заполнить первые count элементов массивов тем же способом, что и generate, без создания объектов.
+     */
+    public void generateInto(int[] arrivals, int[] bursts, int[] priorities, int count,
+                             int maxArrival,
+                             int minBurst, int maxBurst,
+                             int minPriority, int maxPriority) {
+        for (int i = 0; i < count; i++) {
+            arrivals[i] = random.nextInt(maxArrival + 1);
+            bursts[i] = minBurst + random.nextInt(maxBurst - minBurst + 1);
+            priorities[i] = minPriority + random.nextInt(maxPriority - minPriority + 1);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.nlbeglov.scheduler.testing;
+
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Сетка перебора: декартово произведение форм нагрузки и конфигураций планировщика
+ * (режим × старение × интервал старения). Без старения интервал не влияет на результат,
+ * поэтому такая конфигурация входит в сетку один раз.
+ * <p>
+ * Ячейка index = shape · configCount() + config; нумерация определяется только аргументами
+ * конструктора, на этом держится продолжение прерванного перебора.
+ */
+public class SweepGrid {
+
+    private final List<WorkloadShape> shapes;
+    private final List<SchedulerConfig> configs;
+
+    public SweepGrid(List<SchedulingMode> modes, List<Boolean> agingFlags, List<Integer> agingIntervals,
+                     List<WorkloadShape> shapes) {
+        if (modes.isEmpty() || agingFlags.isEmpty() || agingIntervals.isEmpty() || shapes.isEmpty()) {
+            throw new IllegalArgumentException("every sweep axis needs at least one value");
+        }
+        this.shapes = List.copyOf(shapes);
+        List<SchedulerConfig> list = new ArrayList<>();
+        for (SchedulingMode mode : modes) {
+            for (boolean aging : agingFlags) {
+                if (!aging) {
+                    list.add(new SchedulerConfig(mode, false, agingIntervals.get(0)));
+                    continue;
+                }
+                for (int interval : agingIntervals) {
+                    list.add(new SchedulerConfig(mode, true, interval));
+                }
+            }
+        }
+        this.configs = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Формы нагрузки — декартово произведение осей генератора.
+     * bursts и priorities — пары {min, max}.
+     */
+    public static List<WorkloadShape> shapes(int[] processCounts, int[] maxArrivals,
+                                             int[][] bursts, int[][] priorities) {
+        List<WorkloadShape> list = new ArrayList<>();
+        for (int count : processCounts) {
+            for (int arrival : maxArrivals) {
+                for (int[] burst : bursts) {
+                    for (int[] priority : priorities) {
+                        list.add(new WorkloadShape(count, arrival, burst[0], burst[1], priority[0], priority[1]));
+                    }
+                }
+            }
+        }
+        return list;
+    }
+
+    public List<WorkloadShape> getShapes() {
+        return shapes;
+    }
+
+    public List<SchedulerConfig> getConfigs() {
+        return configs;
+    }
+
+    public int configCount() {
+        return configs.size();
+    }
+
+    public int size() {
+        return shapes.size() * configs.size();
+    }
+
+    public WorkloadShape shapeOf(int cell) {
+        return shapes.get(cell / configs.size());
+    }
+
+    public SchedulerConfig configOf(int cell) {
+        return configs.get(cell % configs.size());
+    }
+}
@@ -0,0 +1,16 @@
+package com.nlbeglov.scheduler.testing;
+
+/**
+ * Параметры RandomWorkloadGenerator для одной точки перебора.
+ */
+public record WorkloadShape(int processCount, int maxArrival,
+                            int minBurst, int maxBurst,
+                            int minPriority, int maxPriority) {
+
+    public WorkloadShape {
+        if (processCount <= 0 || maxArrival < 0 || minBurst <= 0 || maxBurst < minBurst || maxPriority < minPriority) {
+            throw new IllegalArgumentException("invalid workload shape: " + processCount + ", " + maxArrival + ", "
+                    + minBurst + ".." + maxBurst + ", " + minPriority + ".." + maxPriority);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.nlbeglov.scheduler.trace;
+
+/**
+ * Почему закончился отрезок временной диаграммы.
+ */
+public enum SwitchReason {
+    /** Процесс завершился. */
+    COMPLETED,
+    /** Процесс вытеснен другим. */
+    PREEMPTED,
+    /** Закончился простой ядра. */
+    IDLE
+}
@@ -0,0 +1,106 @@
+package com.nlbeglov.scheduler.trace;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.nlbeglov.scheduler.trace.TimelineWriter.MAGIC;
+import static com.nlbeglov.scheduler.trace.TimelineWriter.VERSION;
+
+/**
+ * Потоковое чтение файла TimelineWriter: отрезки читаются по одному, весь файл в память не загружается.
+ */
+public class TimelineReader implements Closeable {
+
+    private static final SwitchReason[] REASONS = SwitchReason.values();
+
+    private final DataInputStream in;
+    private final List<String> ids = new ArrayList<>();
+    private int lastStart;
+
+    public TimelineReader(Path path) throws IOException {
+        this(Files.newInputStream(path));
+    }
+
+    public TimelineReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        try {
+            if (this.in.readInt() != MAGIC) {
+                throw new IOException("Not a timeline file");
+            }
+            int version = this.in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported timeline version " + version);
+            }
+        } catch (IOException e) {
+            this.in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Следующий отрезок или null в конце файла.
+     */
+    public TimelineSegment next() throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        int ref = readVarint(first);
+        String id;
+        if (ref == 0) {
+            id = null;
+        } else if (ref <= ids.size()) {
+            id = ids.get(ref - 1);
+        } else if (ref == ids.size() + 1) {
+            byte[] bytes = new byte[readVarint(in.readUnsignedByte())];
+            in.readFully(bytes);
+            id = new String(bytes, StandardCharsets.UTF_8);
+            ids.add(id);
+        } else {
+            throw new IOException("Corrupted timeline: unknown id reference " + ref);
+        }
+        int core = readVarint(in.readUnsignedByte());
+        int zigzag = readVarint(in.readUnsignedByte());
+        int start = lastStart + ((zigzag >>> 1) ^ -(zigzag & 1));
+        int length = readVarint(in.readUnsignedByte());
+        int reason = in.readUnsignedByte();
+        if (reason >= REASONS.length) {
+            throw new IOException("Corrupted timeline: unknown reason " + reason);
+        }
+        lastStart = start;
+        return new TimelineSegment(core, id, start, start + length, REASONS[reason]);
+    }
+
+    // first — уже прочитанный первый байт
+    private int readVarint(int first) throws IOException {
+        int value = first & 0x7F;
+        int shift = 7;
+        int b = first;
+        while ((b & 0x80) != 0) {
+            if (shift > 28) {
+                throw new IOException("Corrupted timeline: varint too long");
+            }
+            b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated timeline record");
+            }
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        }
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
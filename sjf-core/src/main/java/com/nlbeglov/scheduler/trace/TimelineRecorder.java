@@ -0,0 +1,55 @@
+package com.nlbeglov.scheduler.trace;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.sim.SegmentListener;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Записывает отрезки выполнения SimulationEngine в sink (обычно TimelineWriter);
+ * промежутки между отрезками на ядре записываются как простой. Работа и объем записи
+ * пропорциональны числу переключений, а не тактов. Подключается через SimulationEngine.addSegmentListener.
+ */
+public class TimelineRecorder implements SegmentListener {
+
+    private final Consumer<TimelineSegment> sink;
+
+    private int[] lastEnd = new int[1]; // конец последнего записанного отрезка каждого ядра
+    private int clock;
+
+    public TimelineRecorder(Consumer<TimelineSegment> sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void onSegment(int core, ScheduledProcess process, int start, int end) {
+        if (core >= lastEnd.length) {
+            lastEnd = Arrays.copyOf(lastEnd, core + 1);
+        }
+        if (start > lastEnd[core]) {
+            sink.accept(new TimelineSegment(core, null, lastEnd[core], start, SwitchReason.IDLE));
+        }
+        sink.accept(new TimelineSegment(core, process.getId(), start, end,
+                process.isFinished() ? SwitchReason.COMPLETED : SwitchReason.PREEMPTED));
+        lastEnd[core] = end;
+    }
+
+    @Override
+    public void onClockAdvanced(int from, int to) {
+        clock = to;
+    }
+
+    /**
+     * Дописывает простой ядер до момента окончания симуляции.
+     */
+    @Override
+    public void onSimulationFinished() {
+        for (int c = 0; c < lastEnd.length; c++) {
+            if (clock > lastEnd[c]) {
+                sink.accept(new TimelineSegment(c, null, lastEnd[c], clock, SwitchReason.IDLE));
+                lastEnd[c] = clock;
+            }
+        }
+    }
+}
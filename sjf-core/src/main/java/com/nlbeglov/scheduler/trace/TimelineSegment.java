@@ -0,0 +1,55 @@
+package com.nlbeglov.scheduler.trace;
+
+/**
+ * Отрезок временной диаграммы: на ядре core такты [start, end) выполнялся процесс processId
+ * (null — ядро простаивало); reason — почему отрезок закончился.
+ */
+public class TimelineSegment {
+
+    private final int core;
+    private final String processId;
+    private final int start;
+    private final int end;
+    private final SwitchReason reason;
+
+    public TimelineSegment(int core, String processId, int start, int end, SwitchReason reason) {
+        this.core = core;
+        this.processId = processId;
+        this.start = start;
+        this.end = end;
+        this.reason = reason;
+    }
+
+    public int getCore() {
+        return core;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public boolean isIdle() {
+        return processId == null;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public int getLength() {
+        return end - start;
+    }
+
+    public SwitchReason getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return (processId == null ? "idle" : processId) + "@" + core + "[" + start + ", " + end + ") " + reason;
+    }
+}
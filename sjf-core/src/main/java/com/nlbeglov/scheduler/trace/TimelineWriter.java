@@ -0,0 +1,102 @@
+package com.nlbeglov.scheduler.trace;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Запись временной диаграммы в компактный файл, который только дописывается.
+ * <p>
+ * Формат: magic "SJFL" и версия (по int), затем отрезки подряд, все числа — varint:
+ * ссылка на id (0 — простой, 1..n — уже встречавшийся id, n+1 — новый id, за ним длина и UTF-8),
+ * ядро, смещение начала относительно начала предыдущего отрезка (zigzag), длина, причина (байт).
+ * Типичный отрезок занимает 4–6 байт, размер файла пропорционален числу переключений, а не тактов.
+ */
+public class TimelineWriter implements Consumer<TimelineSegment>, Closeable {
+
+    static final int MAGIC = 0x534A464C; // "SJFL"
+    static final int VERSION = 1;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private int lastStart;
+    private long count;
+
+    public TimelineWriter(Path path) throws IOException {
+        this(Files.newOutputStream(path));
+    }
+
+    public TimelineWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(VERSION);
+    }
+
+    public void write(TimelineSegment segment) throws IOException {
+        String id = segment.getProcessId();
+        if (id == null) {
+            writeVarint(0);
+        } else {
+            Integer ref = ids.get(id);
+            if (ref != null) {
+                writeVarint(ref);
+            } else {
+                ref = ids.size() + 1;
+                ids.put(id, ref);
+                writeVarint(ref);
+                byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+                writeVarint(bytes.length);
+                out.write(bytes);
+            }
+        }
+        writeVarint(segment.getCore());
+        int delta = segment.getStart() - lastStart;
+        writeVarint((delta << 1) ^ (delta >> 31));
+        writeVarint(segment.getLength());
+        out.writeByte(segment.getReason().ordinal());
+        lastStart = segment.getStart();
+        count++;
+    }
+
+    /**
+     * Для использования как приемника TimelineRecorder; ошибки ввода-вывода — UncheckedIOException.
+     */
+    @Override
+    public void accept(TimelineSegment segment) {
+        try {
+            write(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -0,0 +1,130 @@
+package com.nlbeglov.scheduler.trace;
+
+import com.nlbeglov.scheduler.core.ProcessSource;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.nlbeglov.scheduler.trace.TraceWriter.*;
+
+/**
+ * Чтение двоичной трассы (см. TraceWriter) как потока процессов для SJFWithPriorityScheduler.setProcessSource.
+ * Файл отображается в память через FileChannel.map окнами по WINDOW_RECORDS записей,
+ * поэтому размер трассы не ограничен ни кучей, ни пределом в 2 ГБ на одно отображение.
+ */
+public class TraceReader implements ProcessSource, Closeable {
+
+    static final int WINDOW_RECORDS = 1 << 22; // 48 МБ на окно
+
+    private final FileChannel channel;
+    private final long count;
+    private final int windowRecords;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long windowEnd;
+    private long index;
+    private int lastArrival;
+
+    public TraceReader(Path path) throws IOException {
+        this(path, WINDOW_RECORDS);
+    }
+
+    TraceReader(Path path, int windowRecords) throws IOException {
+        this.windowRecords = windowRecords;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IOException(path + ": not a trace file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException(path + ": unsupported trace version " + version);
+            }
+            this.count = header.getLong();
+            if (count < 0 || channel.size() < HEADER_BYTES + count * RECORD_BYTES) {
+                throw new IOException(path + ": truncated trace, expected " + count + " records");
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        rewind();
+    }
+
+    /**
+     * Число процессов в трассе.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < count;
+    }
+
+    @Override
+    public int peekArrivalTime() {
+        return window().getInt(offset());
+    }
+
+    @Override
+    public ScheduledProcess next() {
+        if (!hasNext()) {
+            throw new IllegalStateException("Trace is exhausted");
+        }
+        MappedByteBuffer w = window();
+        int at = offset();
+        int arrival = w.getInt(at);
+        if (arrival < lastArrival) {
+            throw new IllegalStateException("Trace is not sorted by arrival at record " + index);
+        }
+        lastArrival = arrival;
+        index++;
+        return new ScheduledProcess("P" + index, arrival, w.getInt(at + 4), w.getInt(at + 8));
+    }
+
+    @Override
+    public void rewind() {
+        index = 0;
+        lastArrival = Integer.MIN_VALUE;
+    }
+
+    private int offset() {
+        return (int) (index - windowStart) * RECORD_BYTES;
+    }
+
+    private MappedByteBuffer window() {
+        if (window == null || index < windowStart || index >= windowEnd) {
+            long start = index - index % windowRecords;
+            long records = Math.min(windowRecords, count - start);
+            try {
+                window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + start * RECORD_BYTES, records * RECORD_BYTES);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot map trace window at record " + start, e);
+            }
+            window.order(ByteOrder.LITTLE_ENDIAN);
+            windowStart = start;
+            windowEnd = start + records;
+        }
+        return window;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,137 @@
+package com.nlbeglov.scheduler.trace;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Запись трассы нагрузки в двоичном формате, который читает TraceReader.
+ * <p>
+ * Формат (little-endian): заголовок из 16 байт — magic "SJFT", версия, число записей (long),
+ * затем по 12 байт на процесс: arrival, burst, priority. Записи идут по неубыванию arrival;
+ * идентификаторы не хранятся, при чтении процесс получает id "P&lt;номер&gt;".
+ */
+public class TraceWriter implements Closeable {
+
+    static final int MAGIC = 0x534A4654; // "SJFT"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 12;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_BYTES * 8192).order(ByteOrder.LITTLE_ENDIAN);
+    private long count;
+    private int lastArrival = Integer.MIN_VALUE;
+
+    public TraceWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        // заголовок дописывается при закрытии, когда известно число записей
+        channel.position(HEADER_BYTES);
+    }
+
+    public void write(int arrival, int burst, int priority) throws IOException {
+        if (arrival < lastArrival) {
+            throw new IllegalArgumentException("Trace must be sorted by arrival: record " + count
+                    + " arrives at " + arrival + " after " + lastArrival);
+        }
+        if (buffer.remaining() < RECORD_BYTES) {
+            flush();
+        }
+        buffer.putInt(arrival).putInt(burst).putInt(priority);
+        lastArrival = arrival;
+        count++;
+    }
+
+    public void write(ScheduledProcess p) throws IOException {
+        write(p.getArrivalTime(), p.getBurstTime(), p.getBasePriority());
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(count).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Записать список процессов, предварительно отсортировав его по прибытию.
+     */
+    public static long write(Path path, List<ScheduledProcess> processes) throws IOException {
+        try (TraceWriter writer = new TraceWriter(path)) {
+            for (ScheduledProcess p : processes.stream()
+                    .sorted(Comparator.comparingInt(ScheduledProcess::getArrivalTime)).toList()) {
+                writer.write(p);
+            }
+            return writer.getCount();
+        }
+    }
+
+    /**
+     * Преобразовать CSV в двоичную трассу построчно, не держа нагрузку в памяти.
+     * Строки — "arrival,burst,priority" или "id,arrival,burst,priority" (id отбрасывается),
+     * отсортированные по arrival. Пустые строки, строки с '#' и нечисловой заголовок пропускаются.
+     */
+    public static long convertCsv(Path csv, Path trace) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+             TraceWriter writer = new TraceWriter(trace)) {
+            String line;
+            int lineNo = 0;
+            while ((line = in.readLine()) != null) {
+                lineNo++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                int first = parts.length - 3;
+                if (first < 0 || first > 1) {
+                    throw new IOException(csv + ":" + lineNo + ": expected 3 or 4 columns");
+                }
+                try {
+                    writer.write(Integer.parseInt(parts[first].trim()),
+                            Integer.parseInt(parts[first + 1].trim()),
+                            Integer.parseInt(parts[first + 2].trim()));
+                } catch (NumberFormatException e) {
+                    if (lineNo == 1) {
+                        continue; // заголовок
+                    }
+                    throw new IOException(csv + ":" + lineNo + ": " + e.getMessage(), e);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(csv + ":" + lineNo + ": " + e.getMessage(), e);
+                }
+            }
+            return writer.getCount();
+        }
+    }
+}
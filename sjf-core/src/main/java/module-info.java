@@ -0,0 +1,11 @@
+module com.nlbeglov.scheduler {
+    requires transitive jdk.jfr;
+
+    exports com.nlbeglov.scheduler.core;
+    exports com.nlbeglov.scheduler.model;
+    exports com.nlbeglov.scheduler.sim;
+    exports com.nlbeglov.scheduler.trace;
+    exports com.nlbeglov.scheduler.jfr;
+    exports com.nlbeglov.scheduler.testing;
+    exports com.nlbeglov.scheduler.cli;
+}
@@ -0,0 +1,96 @@
+package com.nlbeglov.scheduler.cli;
+
+import com.nlbeglov.scheduler.testing.ParameterSweep;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatorCliTest {
+
+    @Test
+    void runPrintsSameStatisticsForSameSeed() {
+        String[] args = {"run", "--scheduler=sjf", "--runs=5", "--processes=20", "--seed=9", "--switch-cost=1"};
+        String first = statisticsLine(args);
+        assertEquals(first, statisticsLine(args));
+        assertTrue(first.startsWith("avgWaiting="), first);
+
+        String mlfq = statisticsLine(new String[]{"run", "--scheduler=mlfq", "--runs=5", "--processes=20", "--seed=9"});
+        assertNotEquals(first, mlfq);
+    }
+
+    @Test
+    void sweepWritesResumableCsv(@TempDir Path dir) throws Exception {
+        Path csv = dir.resolve("sweep.csv");
+        String[] args = {"sweep", "--out=" + csv, "--runs=2", "--seed=1", "--threads=2",
+                "--processes=10,20", "--aging-intervals=2,4"};
+        assertEquals(0, SimulatorCli.run(args, silent(), silent()));
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(ParameterSweep.HEADER, lines.get(1));
+        // 2 формы × (2 режима × (без старения + 2 интервала))
+        assertEquals(2 + 12, lines.size());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, SimulatorCli.run(args, new PrintStream(out, true, StandardCharsets.UTF_8), silent()));
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("0 of 12 cells computed"));
+    }
+
+    @Test
+    void badArgumentsExitWithUsage() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream errStream = new PrintStream(err, true, StandardCharsets.UTF_8);
+        assertEquals(2, SimulatorCli.run(new String[]{"run", "--frobnicate=1"}, silent(), errStream));
+        assertEquals(2, SimulatorCli.run(new String[]{"run", "--runs=x"}, silent(), errStream));
+        assertEquals(2, SimulatorCli.run(new String[]{"sweep"}, silent(), errStream));
+        assertEquals(2, SimulatorCli.run(new String[0], silent(), errStream));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("unknown option: --frobnicate"));
+    }
+
+    @Test
+    void sjfOnlyOptionsAreRejectedForOtherSchedulers() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream errStream = new PrintStream(err, true, StandardCharsets.UTF_8);
+        for (String option : List.of("--switch-cost=2", "--policy=fcfs", "--aging", "--aging-interval=3", "--threads=2")) {
+            assertEquals(2, SimulatorCli.run(new String[]{"run", "--scheduler=fair", "--runs=1", option},
+                    silent(), errStream), option);
+        }
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("--switch-cost applies only to --scheduler=sjf"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, SimulatorCli.run(new String[]{"run", "--scheduler=mlfq", "--runs=1", "--seed=3"},
+                new PrintStream(out, true, StandardCharsets.UTF_8), silent()));
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("scheduler=mlfq mode=PREEMPTIVE seed=3 runs=1"));
+    }
+
+    @Test
+    void agingAcceptsOnlyTrueOrFalse() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream errStream = new PrintStream(err, true, StandardCharsets.UTF_8);
+        assertEquals(2, SimulatorCli.run(new String[]{"run", "--runs=1", "--aging=yes"}, silent(), errStream));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("--aging expects true or false: yes"));
+
+        for (String aging : List.of("--aging", "--aging=true", "--aging=false")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(0, SimulatorCli.run(new String[]{"run", "--runs=1", aging},
+                    new PrintStream(out, true, StandardCharsets.UTF_8), silent()));
+            assertTrue(out.toString(StandardCharsets.UTF_8).contains("aging=" + !aging.endsWith("false")), aging);
+        }
+    }
+
+    private static String statisticsLine(String[] args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, SimulatorCli.run(args, new PrintStream(out, true, StandardCharsets.UTF_8), silent()));
+        return out.toString(StandardCharsets.UTF_8).lines().skip(1).findFirst().orElseThrow();
+    }
+
+    private static PrintStream silent() {
+        return new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.testing.LoadTester;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FairSchedulerTest {
+
+    @Test
+    void equalWeightsShareCpuInGranularitySlices() {
+        FairScheduler scheduler = new FairScheduler(2);
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 6, 1),
+                new ScheduledProcess("B", 0, 6, 1)
+        ));
+        StringBuilder order = new StringBuilder();
+        for (int time = 0; !scheduler.isFinished(); time++) {
+            order.append(scheduler.step(time).getId());
+        }
+        assertEquals("AABBAABBAABB", order.toString());
+    }
+
+    @Test
+    void eventDrivenModeMatchesTickMode() {
+        Random random = new Random(5);
+        for (SchedulingMode mode : SchedulingMode.values()) {
+            for (int round = 0; round < 20; round++) {
+                List<ScheduledProcess> processes = new ArrayList<>();
+                for (int i = 0; i < 60; i++) {
+                    processes.add(new ScheduledProcess("P" + i, random.nextInt(300),
+                            1 + random.nextInt(40), random.nextInt(6)));
+                }
+                SchedulerConfig config = new SchedulerConfig(mode, false, 5);
+
+                FairScheduler ticks = new FairScheduler(1 + round % 4);
+                ticks.setConfig(config);
+                ticks.setProcesses(new ArrayList<>(processes));
+                for (int time = 0; !ticks.isFinished(); time++) {
+                    ticks.step(time);
+                }
+                List<Integer> expected = ticks.getAllProcesses().stream().map(ScheduledProcess::getFinishTime).toList();
+
+                FairScheduler events = new FairScheduler(1 + round % 4);
+                SimulationStats stats = new LoadTester().runSingle(events, processes, config);
+                assertEquals(expected, events.getAllProcesses().stream().map(ScheduledProcess::getFinishTime).toList());
+                assertEquals(processes.size(), stats.getCount());
+            }
+        }
+    }
+
+    @Test
+    void lowPriorityJobsDoNotStarve() {
+        // короткая задача с низким приоритетом рядом с длинной важной:
+        // SJF без старения держит ее до конца длинной, справедливый — дает долю CPU
+        List<ScheduledProcess> processes = List.of(
+                new ScheduledProcess("low", 0, 50, 5),
+                new ScheduledProcess("hog", 0, 400, 0));
+        SchedulerConfig preemptive = new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5);
+        LoadTester tester = new LoadTester();
+        SJFWithPriorityScheduler sjf = new SJFWithPriorityScheduler();
+        FairScheduler fair = new FairScheduler();
+        tester.runSingle(sjf, processes, preemptive);
+        tester.runSingle(fair, processes, preemptive);
+        assertEquals(450, sjf.getAllProcesses().get(0).getFinishTime());
+        assertTrue(fair.getAllProcesses().get(0).getFinishTime() < 300,
+                "CFS: " + fair.getAllProcesses().get(0).getFinishTime());
+    }
+}
@@ -0,0 +1,88 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.testing.LoadTester;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MlfqSchedulerTest {
+
+    @Test
+    void expiredQuantumDemotesAndArrivalsPreemptLowerLevels() {
+        MlfqScheduler scheduler = new MlfqScheduler(new int[]{1, 2}, 0);
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 4, 0),
+                new ScheduledProcess("B", 0, 4, 0),
+                new ScheduledProcess("C", 3, 1, 0)
+        ));
+        StringBuilder order = new StringBuilder();
+        for (int time = 0; !scheduler.isFinished(); time++) {
+            order.append(scheduler.step(time).getId());
+        }
+        // C приходит на верхний уровень и прерывает A; A продолжает свой квант первым на уровне 1
+        assertEquals("ABACABBAB", order.toString());
+    }
+
+    @Test
+    void boostReturnsEveryoneToTopLevel() {
+        MlfqScheduler scheduler = new MlfqScheduler(new int[]{1, 100}, 4);
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 10, 0),
+                new ScheduledProcess("B", 0, 10, 0)
+        ));
+        StringBuilder order = new StringBuilder();
+        for (int time = 0; time < 8; time++) {
+            order.append(scheduler.step(time).getId());
+        }
+        // без подъема A держал бы CPU 100 тактов подряд; подъем в t=4 снова делит CPU по кванту 1
+        assertEquals("ABAAABAA", order.toString());
+    }
+
+    @Test
+    void eventDrivenModeMatchesTickMode() {
+        Random random = new Random(11);
+        for (SchedulingMode mode : SchedulingMode.values()) {
+            for (int round = 0; round < 20; round++) {
+                List<ScheduledProcess> processes = new ArrayList<>();
+                for (int i = 0; i < 60; i++) {
+                    processes.add(new ScheduledProcess("P" + i, random.nextInt(300),
+                            1 + random.nextInt(40), random.nextInt(6)));
+                }
+                SchedulerConfig config = new SchedulerConfig(mode, false, 5);
+                int boost = round % 3 == 0 ? 0 : 7 * round;
+
+                MlfqScheduler ticks = new MlfqScheduler(new int[]{1, 3, 6}, boost);
+                ticks.setConfig(config);
+                ticks.setProcesses(new ArrayList<>(processes));
+                for (int time = 0; !ticks.isFinished(); time++) {
+                    ticks.step(time);
+                }
+                List<Integer> expected = ticks.getAllProcesses().stream().map(ScheduledProcess::getFinishTime).toList();
+
+                MlfqScheduler events = new MlfqScheduler(new int[]{1, 3, 6}, boost);
+                SimulationStats stats = new LoadTester().runSingle(events, processes, config);
+                assertEquals(expected, events.getAllProcesses().stream().map(ScheduledProcess::getFinishTime).toList());
+                assertEquals(processes.size(), stats.getCount());
+            }
+        }
+    }
+
+    @Test
+    void clairvoyantSjfWaitsLessOnSameWorkloads() {
+        // при равных приоритетах вытесняющий SJF — это SRTF, он минимизирует среднее ожидание
+        SchedulerConfig config = new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5);
+        LoadTester tester = new LoadTester(3);
+        List<SimulationStats> sjf = tester.runMany(20, 80, 200, 1, 30, 0, 0, config);
+        List<SimulationStats> mlfq = tester.runMany(new MlfqScheduler(), 20, 80, 200, 1, 30, 0, 0, config);
+        for (int i = 0; i < sjf.size(); i++) {
+            assertEquals(sjf.get(i).getCount(), mlfq.get(i).getCount());
+            assertTrue(mlfq.get(i).getAvgWaitingTime() >= sjf.get(i).getAvgWaitingTime(), "run " + i);
+        }
+    }
+}
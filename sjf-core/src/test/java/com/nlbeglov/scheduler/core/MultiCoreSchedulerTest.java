@@ -0,0 +1,177 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiCoreSchedulerTest {
+
+    @Test
+    void singleCoreMatchesSjfScheduler() {
+        Random random = new Random(11);
+        for (SchedulingMode mode : SchedulingMode.values()) {
+            List<ScheduledProcess> a = new ArrayList<>();
+            List<ScheduledProcess> b = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                int arrival = random.nextInt(60);
+                int burst = 1 + random.nextInt(8);
+                int priority = random.nextInt(5);
+                a.add(new ScheduledProcess("P" + i, arrival, burst, priority));
+                b.add(new ScheduledProcess("P" + i, arrival, burst, priority));
+            }
+            SchedulerConfig config = new SchedulerConfig(mode, true, 3);
+            SJFWithPriorityScheduler sjf = new SJFWithPriorityScheduler();
+            sjf.setConfig(config);
+            sjf.setProcesses(a);
+            MultiCoreScheduler multi = new MultiCoreScheduler(1);
+            multi.setConfig(config);
+            multi.setProcesses(b);
+
+            for (int t = 0; !sjf.isFinished() || !multi.isFinished(); t++) {
+                ScheduledProcess expected = sjf.step(t);
+                ScheduledProcess actual = multi.step(t);
+                assertEquals(expected == null ? null : expected.getId(),
+                        actual == null ? null : actual.getId(), "Такт " + t + ", режим " + mode);
+            }
+            assertEquals(0, multi.getMigrations());
+        }
+    }
+
+    @Test
+    void idleCoreStealsWorkAndEventModeMatchesTickMode() {
+        List<ScheduledProcess> tick = workload();
+        List<ScheduledProcess> event = workload();
+        MultiCoreScheduler byTick = newScheduler(tick);
+        MultiCoreScheduler byEvent = newScheduler(event);
+
+        ScheduledProcess[] running = new ScheduledProcess[2];
+        int elapsed = 0;
+        for (; !byTick.isFinished(); elapsed++) {
+            byTick.step(elapsed, running);
+        }
+        for (int t = 0; !byEvent.isFinished(); ) {
+            byEvent.step(t, running);
+            t = byEvent.fastForward(t + 1);
+        }
+
+        // ядро 0 разбирает свои короткие процессы и забирает D из очереди ядра 1, занятого B
+        assertEquals(8, elapsed);
+        assertEquals(8, tick.get(3).getFinishTime(), "Без переноса D завершился бы на такте 11");
+        assertEquals(8, byTick.getBusyTicks(0));
+        assertEquals(6, byTick.getBusyTicks(1));
+        assertEquals(0.75, byTick.getUtilization(1, elapsed), 1e-9);
+        for (int i = 0; i < tick.size(); i++) {
+            assertEquals(tick.get(i).getFinishTime(), event.get(i).getFinishTime());
+        }
+        assertEquals(byTick.getBusyTicks(1), byEvent.getBusyTicks(1));
+    }
+
+    @Test
+    void switchCostAndCountersMatchSjfSchedulerOnOneCore() {
+        Random random = new Random(23);
+        for (SchedulingMode mode : SchedulingMode.values()) {
+            List<ScheduledProcess> a = randomWorkload(random, 30);
+            List<ScheduledProcess> b = copy(a);
+            SchedulerConfig config = new SchedulerConfig(mode, true, 3, SchedulingPolicy.DEFAULT, 2);
+            SJFWithPriorityScheduler sjf = new SJFWithPriorityScheduler();
+            sjf.setConfig(config);
+            sjf.setProcesses(a);
+            MultiCoreScheduler multi = new MultiCoreScheduler(1);
+            multi.setConfig(config);
+            multi.setProcesses(b);
+
+            for (int t = 0; !sjf.isFinished() || !multi.isFinished(); t++) {
+                ScheduledProcess expected = sjf.step(t);
+                ScheduledProcess actual = multi.step(t);
+                assertEquals(expected == null ? null : expected.getId(),
+                        actual == null ? null : actual.getId(), "Такт " + t + ", режим " + mode);
+            }
+            SimulationStats expected = sjf.getStatistics();
+            SimulationStats actual = multi.getStatistics();
+            assertTrue(actual.getContextSwitches() > 0);
+            assertEquals(expected.getContextSwitches(), actual.getContextSwitches());
+            assertEquals(expected.getPreemptions(), actual.getPreemptions());
+            assertEquals(expected.getOverheadTicks(), actual.getOverheadTicks());
+            assertEquals(expected.getIdleTicks(), actual.getIdleTicks());
+            assertEquals(2 * expected.getContextSwitches(), actual.getOverheadTicks());
+        }
+    }
+
+    @Test
+    void switchCostInEventModeMatchesTickMode() {
+        Random random = new Random(5);
+        for (SchedulingMode mode : SchedulingMode.values()) {
+            List<ScheduledProcess> tick = randomWorkload(random, 40);
+            List<ScheduledProcess> event = copy(tick);
+            SchedulerConfig config = new SchedulerConfig(mode, true, 4, SchedulingPolicy.DEFAULT, 1);
+            MultiCoreScheduler byTick = new MultiCoreScheduler(3);
+            byTick.setConfig(config);
+            byTick.setProcesses(tick);
+            MultiCoreScheduler byEvent = new MultiCoreScheduler(3);
+            byEvent.setConfig(config);
+            byEvent.setProcesses(event);
+
+            ScheduledProcess[] running = new ScheduledProcess[3];
+            for (int t = 0; !byTick.isFinished(); t++) {
+                byTick.step(t, running);
+            }
+            for (int t = 0; !byEvent.isFinished(); ) {
+                byEvent.step(t, running);
+                t = byEvent.fastForward(t + 1);
+            }
+
+            for (int i = 0; i < tick.size(); i++) {
+                assertEquals(tick.get(i).getFinishTime(), event.get(i).getFinishTime(), "Режим " + mode);
+            }
+            SimulationStats expected = byTick.getStatistics();
+            SimulationStats actual = byEvent.getStatistics();
+            assertTrue(expected.getIdleTicks() > 0);
+            assertEquals(expected.getContextSwitches(), actual.getContextSwitches());
+            assertEquals(expected.getPreemptions(), actual.getPreemptions());
+            assertEquals(expected.getOverheadTicks(), actual.getOverheadTicks());
+            assertEquals(expected.getIdleTicks(), actual.getIdleTicks());
+            assertEquals(expected.getContextSwitches(), expected.getOverheadTicks());
+            assertEquals(byTick.getMigrations(), byEvent.getMigrations());
+        }
+    }
+
+    private static List<ScheduledProcess> randomWorkload(Random random, int count) {
+        List<ScheduledProcess> processes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            processes.add(new ScheduledProcess("P" + i, random.nextInt(80), 1 + random.nextInt(8), random.nextInt(5)));
+        }
+        return processes;
+    }
+
+    private static List<ScheduledProcess> copy(List<ScheduledProcess> processes) {
+        List<ScheduledProcess> copy = new ArrayList<>();
+        for (ScheduledProcess p : processes) {
+            copy.add(new ScheduledProcess(p.getId(), p.getArrivalTime(), p.getBurstTime(), p.getBasePriority()));
+        }
+        return copy;
+    }
+
+    private static List<ScheduledProcess> workload() {
+        return List.of(
+                new ScheduledProcess("A", 0, 1, 1),
+                new ScheduledProcess("B", 0, 5, 1),
+                new ScheduledProcess("C", 0, 1, 1),
+                new ScheduledProcess("D", 0, 5, 1),
+                new ScheduledProcess("E", 0, 1, 1),
+                new ScheduledProcess("F", 0, 1, 1)
+        );
+    }
+
+    private static MultiCoreScheduler newScheduler(List<ScheduledProcess> processes) {
+        MultiCoreScheduler scheduler = new MultiCoreScheduler(2);
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.NON_PREEMPTIVE, false, 5));
+        scheduler.setProcesses(processes);
+        return scheduler;
+    }
+}
@@ -0,0 +1,118 @@
+package com.nlbeglov.scheduler.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadyQueueTest {
+
+    @Test
+    void lazyAgingMatchesDirectPriorityComputation() {
+        Random random = new Random(7);
+        int interval = 3;
+        ReadyQueue queue = new ReadyQueue();
+        queue.configure(true, interval);
+
+        // handle -> {base, remaining, origin}
+        List<int[]> entries = new ArrayList<>();
+        for (int handle = 0; handle < 200; handle++) {
+            int origin = random.nextInt(50);
+            int[] e = {random.nextInt(8), 1 + random.nextInt(20), origin};
+            entries.add(e);
+            queue.add(handle, e[0], e[1], e[2], 50);
+        }
+
+        boolean[] taken = new boolean[entries.size()];
+        for (int time = 50; !queue.isEmpty(); time++) {
+            int expected = -1;
+            long expectedKey = Long.MAX_VALUE;
+            for (int h = 0; h < entries.size(); h++) {
+                if (taken[h]) continue;
+                int[] e = entries.get(h);
+                int priority = ReadyQueue.effectivePriority(e[0], time - e[2], true, interval);
+                long key = ReadyHeap.key(priority, e[1]);
+                if (key < expectedKey) {
+                    expectedKey = key;
+                    expected = h;
+                }
+            }
+            int actual = queue.poll(time);
+            assertEquals(expected, actual, "Порядок очереди должен учитывать старение на момент выбора");
+            assertEquals(ReadyHeap.priorityOf(expectedKey), queue.peekPriority());
+            taken[actual] = true;
+        }
+    }
+
+    @Test
+    void hugeIntervalKeepsMemoryProportionalToReadyProcesses() {
+        // раньше configure выделял кучу на каждую фазу интервала и падал с OutOfMemoryError
+        ReadyQueue queue = new ReadyQueue();
+        for (int interval : new int[]{200_000_000, Integer.MAX_VALUE}) {
+            queue.configure(true, interval);
+            queue.add(0, 3, 5, 0, 0);
+            queue.add(1, 2, 9, 0, 0);
+            queue.add(2, 1, 1, 150_000_000, 150_000_000);
+            assertEquals(interval, queue.nextAgingTime(150_000_001));
+            assertEquals(2, queue.poll(150_000_001));
+            assertEquals(1, queue.poll(150_000_001));
+            assertEquals(0, queue.poll(150_000_001));
+            assertTrue(queue.isEmpty());
+            assertEquals(Integer.MAX_VALUE, queue.nextAgingTime(150_000_002));
+        }
+    }
+
+    @Test
+    void manyPhasesMatchDirectPriorityComputation() {
+        Random random = new Random(11);
+        int interval = 20_000;
+        ReadyQueue queue = new ReadyQueue();
+        queue.configure(true, interval);
+
+        // handle -> {base, remaining, origin}
+        List<int[]> entries = new ArrayList<>();
+        List<Boolean> taken = new ArrayList<>();
+        int time = 0;
+        for (int step = 0; step < 3000; step++) {
+            for (int k = random.nextInt(4); k > 0; k--) {
+                int origin = time - random.nextInt(3 * interval);
+                int[] e = {random.nextInt(12), 1 + random.nextInt(50), origin};
+                queue.add(entries.size(), e[0], e[1], e[2], time);
+                entries.add(e);
+                taken.add(false);
+            }
+            int expected = -1;
+            long expectedKey = Long.MAX_VALUE;
+            for (int h = 0; h < entries.size(); h++) {
+                if (taken.get(h)) continue;
+                int[] e = entries.get(h);
+                long key = ReadyHeap.key(ReadyQueue.effectivePriority(e[0], time - e[2], true, interval), e[1]);
+                if (key < expectedKey) {
+                    expectedKey = key;
+                    expected = h;
+                }
+            }
+            if (expected >= 0 && random.nextInt(3) == 0) {
+                assertEquals(expected, queue.poll(time), "Порядок очереди должен учитывать старение на момент выбора");
+                assertEquals(ReadyHeap.priorityOf(expectedKey), queue.peekPriority());
+                taken.set(expected, true);
+            } else {
+                assertEquals(expected, queue.peek(time));
+            }
+
+            // ближайшая смена приоритета у процесса, который еще не дошел до 0
+            int expectedAging = Integer.MAX_VALUE;
+            for (int h = 0; h < entries.size(); h++) {
+                int[] e = entries.get(h);
+                if (taken.get(h) || ReadyQueue.effectivePriority(e[0], time - e[2], true, interval) <= 0) continue;
+                expectedAging = Math.min(expectedAging, time + 1 + Math.floorMod(e[2] - time - 1, interval));
+            }
+            int next = queue.nextAgingTime(time + 1);
+            assertEquals(expectedAging, next);
+            time = Math.min(next, time + 1 + random.nextInt(interval / 10));
+        }
+    }
+}
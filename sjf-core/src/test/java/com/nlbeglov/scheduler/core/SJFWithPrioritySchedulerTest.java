@@ -0,0 +1,253 @@
+package com.nlbeglov.scheduler.core;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SJFWithPrioritySchedulerTest {
+
+    @Test
+    void preemptiveSchedulerSwitchesToHigherPriorityProcess() {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5));
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 5, 2),
+                new ScheduledProcess("B", 1, 3, 0)
+        ));
+
+        ScheduledProcess time0 = scheduler.step(0);
+        ScheduledProcess time1 = scheduler.step(1);
+
+        assertNotNull(time0);
+        assertEquals("A", time0.getId());
+        assertNotNull(time1);
+        assertEquals("B", time1.getId(), "Более высокий приоритет должен вытеснить текущий процесс");
+    }
+
+    @Test
+    void nonPreemptiveSchedulerKeepsCurrentProcess() {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.NON_PREEMPTIVE, false, 5));
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 4, 1),
+                new ScheduledProcess("B", 1, 2, 0)
+        ));
+
+        ScheduledProcess time0 = scheduler.step(0);
+        ScheduledProcess time1 = scheduler.step(1);
+
+        assertNotNull(time0);
+        assertEquals("A", time0.getId());
+        assertNotNull(time1);
+        assertEquals("A", time1.getId(), "В невытесняющем режиме процесс не должен меняться");
+    }
+
+    @Test
+    void agingImprovesPriorityAndAllowsPreemption() {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.PREEMPTIVE, true, 1));
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("LONG", 0, 5, 2),
+                new ScheduledProcess("WAITING", 0, 2, 5)
+        ));
+
+        scheduler.step(0); // LONG
+        scheduler.step(1); // LONG, WAITING priority -> 4
+        scheduler.step(2); // LONG, WAITING priority -> 3
+        ScheduledProcess time3 = scheduler.step(3); // WAITING priority -> 2, должно вытеснить по SJF
+
+        assertNotNull(time3);
+        assertEquals("WAITING", time3.getId(), "Старение должно привести к вытеснению длинного процесса");
+    }
+
+    @Test
+    void eventDrivenModeMatchesTickMode() {
+        Random random = new Random(42);
+        for (SchedulingMode mode : SchedulingMode.values()) {
+            for (boolean aging : new boolean[]{false, true}) {
+                for (int round = 0; round < 20; round++) {
+                    List<int[]> specs = new ArrayList<>();
+                    for (int i = 0; i < 40; i++) {
+                        specs.add(new int[]{random.nextInt(200), 1 + random.nextInt(30), random.nextInt(6)});
+                    }
+                    SchedulerConfig config = new SchedulerConfig(mode, aging, 1 + random.nextInt(6));
+
+                    SJFWithPriorityScheduler ticks = newScheduler(config, specs);
+                    for (int time = 0; !ticks.isFinished(); time++) {
+                        ticks.step(time);
+                    }
+                    SJFWithPriorityScheduler events = newScheduler(config, specs);
+                    for (int time = 0; !events.isFinished(); ) {
+                        events.step(time);
+                        time = events.fastForward(time + 1);
+                    }
+
+                    for (int i = 0; i < specs.size(); i++) {
+                        assertEquals(ticks.getAllProcesses().get(i).getFinishTime(),
+                                events.getAllProcesses().get(i).getFinishTime(),
+                                "Событийный режим должен давать те же времена завершения");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void contextSwitchCostIsChargedAndCounted() {
+        List<int[]> specs = List.of(new int[]{0, 3, 1}, new int[]{1, 2, 0}, new int[]{20, 1, 0});
+
+        SJFWithPriorityScheduler preemptive = newScheduler(
+                new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5, SchedulingPolicy.DEFAULT, 2), specs);
+        for (int time = 0; !preemptive.isFinished(); time++) {
+            preemptive.step(time);
+        }
+        // A: переключение 0-1, такт 2; B не вытесняет A, пока тот не отработал такт после переключения
+        assertEquals(List.of(11, 7, 23), finishTimes(preemptive));
+        SimulationStats stats = preemptive.getStatistics();
+        assertEquals(4, stats.getContextSwitches());
+        assertEquals(1, stats.getPreemptions());
+        assertEquals(8, stats.getOverheadTicks());
+        assertEquals(9, stats.getIdleTicks());
+
+        SJFWithPriorityScheduler nonPreemptive = newScheduler(
+                new SchedulerConfig(SchedulingMode.NON_PREEMPTIVE, false, 5, SchedulingPolicy.DEFAULT, 2), specs);
+        for (int time = 0; !nonPreemptive.isFinished(); time++) {
+            nonPreemptive.step(time);
+        }
+        assertEquals(List.of(5, 9, 23), finishTimes(nonPreemptive));
+        assertEquals(3, nonPreemptive.getStatistics().getContextSwitches());
+        assertEquals(0, nonPreemptive.getStatistics().getPreemptions());
+
+        // событийный режим дает те же времена и счетчики
+        Random random = new Random(7);
+        for (SchedulingMode mode : SchedulingMode.values()) {
+            for (int round = 0; round < 30; round++) {
+                List<int[]> workload = new ArrayList<>();
+                for (int i = 0; i < 40; i++) {
+                    workload.add(new int[]{random.nextInt(200), random.nextInt(20), random.nextInt(6)});
+                }
+                SchedulerConfig config = new SchedulerConfig(mode, round % 2 == 0, 1 + random.nextInt(6),
+                        SchedulingPolicy.DEFAULT, random.nextInt(4));
+                SJFWithPriorityScheduler ticks = newScheduler(config, workload);
+                for (int time = 0; !ticks.isFinished(); time++) {
+                    ticks.step(time);
+                }
+                SJFWithPriorityScheduler events = newScheduler(config, workload);
+                for (int time = 0; !events.isFinished(); ) {
+                    events.step(time);
+                    time = events.fastForward(time + 1);
+                }
+                assertEquals(finishTimes(ticks), finishTimes(events));
+                SimulationStats expected = ticks.getStatistics();
+                SimulationStats actual = events.getStatistics();
+                assertEquals(expected.getContextSwitches(), actual.getContextSwitches());
+                assertEquals(expected.getPreemptions(), actual.getPreemptions());
+                assertEquals(expected.getOverheadTicks(), actual.getOverheadTicks());
+                assertEquals(expected.getIdleTicks(), actual.getIdleTicks());
+            }
+        }
+    }
+
+    private static List<Integer> finishTimes(Scheduler scheduler) {
+        return scheduler.getAllProcesses().stream().map(ScheduledProcess::getFinishTime).toList();
+    }
+
+    @Test
+    void forkFromCheckpointMatchesSwitchingConfigInPlace() {
+        Random random = new Random(7);
+        List<int[]> specs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            specs.add(new int[]{random.nextInt(1000), 1 + random.nextInt(30), random.nextInt(6)});
+        }
+        SchedulerConfig preemptive = new SchedulerConfig(SchedulingMode.PREEMPTIVE, true, 4);
+        SchedulerConfig nonPreemptive = new SchedulerConfig(SchedulingMode.NON_PREEMPTIVE, true, 4);
+
+        SJFWithPriorityScheduler reference = newScheduler(preemptive, specs);
+        int time = runUntil(reference, 0, Integer.MAX_VALUE);
+
+        SJFWithPriorityScheduler original = newScheduler(preemptive, specs);
+        int cut = runUntil(original, 0, 1500);
+        SchedulerCheckpoint checkpoint = original.checkpoint();
+        assertEquals(cut, checkpoint.getTime());
+
+        // ответвление с другой конфигурацией = смена конфигурации на месте
+        SJFWithPriorityScheduler fork = SJFWithPriorityScheduler.fork(checkpoint, nonPreemptive);
+        runUntil(fork, checkpoint.getTime(), Integer.MAX_VALUE);
+        original.setConfig(nonPreemptive);
+        runUntil(original, cut, Integer.MAX_VALUE);
+        assertSameRun(original, fork);
+
+        // возврат к точке с исходной конфигурацией = непрерывный прогон
+        List<ScheduledProcess> processes = original.getAllProcesses();
+        original.restore(checkpoint);
+        assertSame(processes, original.getAllProcesses(), "Та же нагрузка откатывается на месте");
+        assertNotSame(processes.get(0), fork.getAllProcesses().get(0));
+        assertEquals(time, runUntil(original, checkpoint.getTime(), Integer.MAX_VALUE));
+        assertSameRun(reference, original);
+        assertNotNull(fork.getAllProcesses().get(0).getFinishTime());
+    }
+
+    @Test
+    void resetReplaysWorkloadInPlace() {
+        Random random = new Random(11);
+        List<int[]> specs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            specs.add(new int[]{random.nextInt(500), 1 + random.nextInt(30), random.nextInt(6)});
+        }
+        SJFWithPriorityScheduler scheduler = newScheduler(new SchedulerConfig(SchedulingMode.PREEMPTIVE, true, 3), specs);
+        List<ScheduledProcess> processes = scheduler.getAllProcesses();
+        runUntil(scheduler, 0, Integer.MAX_VALUE);
+        List<Integer> finishTimes = processes.stream().map(ScheduledProcess::getFinishTime).toList();
+        double avgWaiting = scheduler.getStatistics().getAvgWaitingTime();
+
+        scheduler.reset();
+        for (ScheduledProcess p : processes) {
+            assertEquals(p.getBurstTime(), p.getRemainingTime());
+            assertNull(p.getStartTime());
+            assertNull(p.getFinishTime());
+            assertEquals(0, p.getAccumulatedWaitingTime());
+        }
+        runUntil(scheduler, 0, Integer.MAX_VALUE);
+        assertSame(processes, scheduler.getAllProcesses(), "Повторный прогон идет на тех же объектах");
+        assertEquals(finishTimes, processes.stream().map(ScheduledProcess::getFinishTime).toList());
+        assertEquals(avgWaiting, scheduler.getStatistics().getAvgWaitingTime());
+    }
+
+    // событийный прогон с момента from, пока время меньше until; возвращает момент следующего шага
+    private static int runUntil(SJFWithPriorityScheduler scheduler, int from, int until) {
+        int time = from;
+        while (!scheduler.isFinished() && time < until) {
+            scheduler.step(time);
+            time = scheduler.fastForward(time + 1);
+        }
+        return time;
+    }
+
+    private static void assertSameRun(SJFWithPriorityScheduler expected, SJFWithPriorityScheduler actual) {
+        for (int i = 0; i < expected.getAllProcesses().size(); i++) {
+            assertEquals(expected.getAllProcesses().get(i).getFinishTime(),
+                    actual.getAllProcesses().get(i).getFinishTime());
+        }
+        assertEquals(Double.doubleToLongBits(expected.getStatistics().getAvgWaitingTime()),
+                Double.doubleToLongBits(actual.getStatistics().getAvgWaitingTime()));
+        assertEquals(expected.getStatistics().getWaiting().getP99(), actual.getStatistics().getWaiting().getP99());
+    }
+
+    private static SJFWithPriorityScheduler newScheduler(SchedulerConfig config, List<int[]> specs) {
+        List<ScheduledProcess> processes = new ArrayList<>();
+        for (int i = 0; i < specs.size(); i++) {
+            int[] s = specs.get(i);
+            processes.add(new ScheduledProcess("P" + i, s[0], s[1], s[2]));
+        }
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(config);
+        scheduler.setProcesses(processes);
+        return scheduler;
+    }
+}
@@ -0,0 +1,74 @@
+package com.nlbeglov.scheduler.jfr;
+
+import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.sim.SimulationEngine;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulingEventsTest {
+
+    @Test
+    void recordingCapturesDecisionsAndPhases(@TempDir Path dir) throws Exception {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.PREEMPTIVE, true, 2));
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 6, 1),
+                new ScheduledProcess("B", 1, 2, 0),
+                new ScheduledProcess("C", 2, 3, 3)
+        ));
+        SimulationEngine engine = new SimulationEngine(scheduler);
+        engine.setEventDriven(true);
+
+        Path file = dir.resolve("sched.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(DispatchEvent.class);
+            recording.enable(PreemptEvent.class);
+            recording.enable(CompleteEvent.class);
+            recording.enable(AgingEvent.class);
+            recording.enable(StepPhaseEvent.class);
+            recording.enable(EngineStepEvent.class);
+            recording.start();
+            engine.start();
+            while (engine.isRunning()) {
+                engine.step();
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<String> dispatched = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.nlbeglov.scheduler.Dispatch"))
+                .map(e -> e.getString("processId") + "@" + e.getInt("simTime"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("A@0", "B@1", "A@3", "C@8"), dispatched);
+
+        RecordedEvent preempt = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.nlbeglov.scheduler.Preempt"))
+                .findFirst().orElseThrow();
+        assertEquals("A", preempt.getString("processId"));
+        assertEquals(1, preempt.getInt("readyDepth"), "B уже в очереди, A еще не вернулся");
+
+        assertEquals(3, events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.nlbeglov.scheduler.Complete")).count());
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("com.nlbeglov.scheduler.Aging")));
+        assertEquals(List.of(StepPhaseEvent.ACCOUNTING, StepPhaseEvent.ADMISSION, StepPhaseEvent.SELECTION),
+                events.stream()
+                        .filter(e -> e.getEventType().getName().equals("com.nlbeglov.scheduler.StepPhase"))
+                        .map(e -> e.getString("phase"))
+                        .distinct().sorted().collect(Collectors.toList()));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("com.nlbeglov.scheduler.EngineStep")));
+    }
+}
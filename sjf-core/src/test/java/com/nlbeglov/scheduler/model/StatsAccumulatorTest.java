@@ -0,0 +1,51 @@
+package com.nlbeglov.scheduler.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsAccumulatorTest {
+
+    @Test
+    void mergedAccumulatorsMatchSingleAccumulator() {
+        Random random = new Random(5);
+        StatsAccumulator all = new StatsAccumulator();
+        StatsAccumulator left = new StatsAccumulator();
+        StatsAccumulator right = new StatsAccumulator();
+        long[] waits = new long[10_000];
+        for (int i = 0; i < waits.length; i++) {
+            // тяжелый хвост: большинство коротких ожиданий и редкие очень длинные
+            long wait = random.nextInt(10) == 0 ? random.nextInt(1_000_000) : random.nextInt(100);
+            waits[i] = wait;
+            all.record(wait, wait + 10);
+            (i % 2 == 0 ? left : right).record(wait, wait + 10);
+        }
+        left.merge(right);
+
+        SimulationStats a = all.toStats();
+        SimulationStats b = left.toStats();
+        assertEquals(waits.length, b.getCount());
+        assertEquals(a.getAvgWaitingTime(), b.getAvgWaitingTime(), 1e-9);
+        assertEquals(a.getWaiting().getVariance(), b.getWaiting().getVariance(), 1e-6 * a.getWaiting().getVariance());
+        assertEquals(a.getWaiting().getP99(), b.getWaiting().getP99());
+
+        Arrays.sort(waits);
+        long exactP99 = waits[(int) Math.ceil(0.99 * waits.length) - 1];
+        long exactP50 = waits[(int) Math.ceil(0.5 * waits.length) - 1];
+        assertEquals(exactP50, b.getWaiting().getP50(), "Малые значения хранятся точно");
+        assertTrue(Math.abs(b.getWaiting().getP99() - exactP99) <= exactP99 / 64 + 1,
+                "Квантиль хвоста должен быть в пределах погрешности корзины");
+    }
+
+    @Test
+    void largeTracesDoNotOverflow() {
+        StatsAccumulator acc = new StatsAccumulator();
+        for (int i = 0; i < 1000; i++) {
+            acc.record(Integer.MAX_VALUE / 2, Integer.MAX_VALUE);
+        }
+        assertEquals(Integer.MAX_VALUE / 2, acc.toStats().getAvgWaitingTime(), 1e-6);
+    }
+}
@@ -0,0 +1,46 @@
+package com.nlbeglov.scheduler.sim;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogTest {
+
+    @Test
+    void ringKeepsLastRecordsAndSpillGetsAll(@TempDir Path dir) throws Exception {
+        EventLog log = new EventLog(3);
+        log.add(0, EventLog.Kind.ARRIVAL, "A");
+        Path file = dir.resolve("sim.log");
+        log.spillTo(file);
+        log.add(0, EventLog.Kind.DISPATCH, "A", 2, 5);
+        log.add(3, EventLog.Kind.PRIORITY_AGED, "A", 2, 1);
+        log.add(5, EventLog.Kind.COMPLETE, "A");
+        log.add(5, EventLog.Kind.IDLE, null);
+        log.stopSpill();
+
+        assertEquals(2, log.first());
+        assertEquals(5, log.end());
+        assertNull(log.format(1));
+        assertEquals("t=3: приоритет A повышен старением 2 → 1", log.format(2));
+        assertEquals("t=5: ЦП простаивает", log.format(4));
+
+        assertEquals(List.of(
+                "t=0: поступил A",
+                "t=0: выполняется A (приор.=2, осталось=5)",
+                "t=3: приоритет A повышен старением 2 → 1",
+                "t=5: A завершен",
+                "t=5: ЦП простаивает"
+        ), Files.readAllLines(file, StandardCharsets.UTF_8));
+
+        log.clear();
+        assertEquals(log.end(), log.first());
+        log.addText("Симуляция завершена");
+        assertEquals("Симуляция завершена", log.format(5));
+    }
+}
@@ -0,0 +1,141 @@
+package com.nlbeglov.scheduler.sim;
+
+import com.nlbeglov.scheduler.core.FairScheduler;
+import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ProcessState;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+
+    @Test
+    void engineInvokesListenerAndStopsAfterCompletion() {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5));
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("P1", 0, 2, 0),
+                new ScheduledProcess("P2", 0, 1, 1)
+        ));
+
+        RecordingListener listener = new RecordingListener();
+        SimulationEngine engine = new SimulationEngine(scheduler, listener);
+
+        engine.start();
+        for (int i = 0; i < 5; i++) {
+            engine.step();
+        }
+
+        assertFalse(engine.isRunning(), "Движок должен остановиться после завершения процессов");
+        assertEquals(3, listener.timeEvents.size(), "Слушатель должен получить событие на каждый такт");
+        assertTrue(listener.finishedCalled, "Должен вызываться коллбек завершения");
+    }
+
+    @Test
+    void segmentListenerReceivesEventsAndSegmentsOnly() {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5));
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 1000, 2),
+                new ScheduledProcess("B", 500, 10, 0)
+        ));
+
+        List<String> events = new ArrayList<>();
+        SimulationEngine engine = new SimulationEngine(scheduler);
+        engine.addSegmentListener(new SegmentListener() {
+            @Override
+            public void onPreempt(int time, int core, ScheduledProcess process) {
+                events.add("preempt " + process.getId() + "@" + time);
+            }
+
+            @Override
+            public void onSegment(int core, ScheduledProcess process, int start, int end) {
+                events.add(process.getId() + "[" + start + ", " + end + ")");
+            }
+        });
+        engine.setEventDriven(true);
+        engine.start();
+        int steps = 0;
+        while (engine.isRunning()) {
+            engine.step();
+            steps++;
+        }
+
+        assertEquals(List.of("preempt A@500", "A[0, 500)", "B[500, 510)", "A[510, 1010)"), events);
+        assertTrue(steps < 10, "Событийный режим без потактовых слушателей не должен проходить по тактам");
+    }
+
+    @Test
+    void checkpointsNeedCheckpointableScheduler() {
+        SimulationEngine sjf = new SimulationEngine(new SJFWithPriorityScheduler());
+        assertTrue(sjf.supportsCheckpoints());
+        assertEquals(0, sjf.checkpoint().getTime());
+
+        SimulationEngine fair = new SimulationEngine(new FairScheduler());
+        assertFalse(fair.supportsCheckpoints());
+        assertThrows(IllegalStateException.class, fair::checkpoint);
+    }
+
+    @Test
+    void snapshotIsImmutableAndVersionedByEvents() {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.PREEMPTIVE, true, 2));
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 6, 0),
+                new ScheduledProcess("B", 0, 2, 3)
+        ));
+        List<String> aged = new ArrayList<>();
+        SimulationEngine engine = new SimulationEngine(scheduler);
+        engine.addSegmentListener(new SegmentListener() {
+            @Override
+            public void onPriorityAged(int time, ScheduledProcess process, int oldPriority) {
+                aged.add(process.getId() + " " + oldPriority + "->" + process.getEffectivePriority() + "@" + time);
+            }
+        });
+        engine.start();
+        engine.step();
+
+        SimulationSnapshot first = engine.snapshot();
+        assertSame(first, engine.snapshot(), "Без событий и сдвига времени снимок переиспользуется");
+        assertEquals(ProcessState.RUNNING, first.getProcesses().get(0).getState());
+        assertEquals(5, first.getProcesses().get(0).getRemainingTime());
+        assertThrows(UnsupportedOperationException.class, () -> first.getProcesses().remove(0));
+
+        while (engine.isRunning()) {
+            engine.step();
+        }
+        SimulationSnapshot last = engine.snapshot();
+        assertTrue(last.getVersion() > first.getVersion());
+        assertEquals(5, first.getProcesses().get(0).getRemainingTime(), "Старый снимок не меняется");
+        assertEquals(ProcessState.FINISHED, last.getProcesses().get(1).getState());
+        assertEquals(8, last.getProcesses().get(1).getFinishTime());
+        // B ждал 6 тактов с интервалом старения 2: приоритет 3 -> 0
+        assertEquals(List.of("B 3->0@6"), aged);
+    }
+
+    private static class RecordingListener implements SimulationListener {
+        private final List<Integer> timeEvents = new ArrayList<>();
+        private boolean finishedCalled;
+
+        @Override
+        public void onTimeAdvanced(int time, ScheduledProcess runningProcess, List<ScheduledProcess> snapshot) {
+            timeEvents.add(time);
+        }
+
+        @Override
+        public void onLogEvent(String message) {
+            // not needed for test
+        }
+
+        @Override
+        public void onSimulationFinished() {
+            finishedCalled = true;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.nlbeglov.scheduler.sim;
+
+import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.model.ProcessSnapshot;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    @Test
+    void turboRunsToCompletionAndPauseAndStepAreExact() throws InterruptedException {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(SchedulerConfig.defaultConfig());
+        // длинная нагрузка: на 50 тактах в секунду она не успеет завершиться до pause
+        scheduler.setProcesses(List.of(new ScheduledProcess("L", 0, 1000, 0)));
+        SimulationEngine engine = new SimulationEngine(scheduler);
+        CountDownLatch advanced = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        engine.addSegmentListener(new SegmentListener() {
+            @Override
+            public void onClockAdvanced(int from, int to) {
+                advanced.countDown();
+            }
+
+            @Override
+            public void onSimulationFinished() {
+                finished.countDown();
+            }
+        });
+        SimulationRunner runner = new SimulationRunner(engine);
+        try {
+            runner.setTicksPerSecond(50);
+            runner.start();
+            assertTrue(advanced.await(5, TimeUnit.SECONDS));
+            runner.pause();
+            int paused = runner.query(engine::getTime);
+            assertTrue(paused > 0);
+            assertFalse(runner.isRunning());
+            assertEquals(paused, runner.snapshot().getTime(), "Остановка публикуется сразу");
+            // после pause фоновых шагов нет: step продвигает ровно на такт
+            runner.step();
+            assertEquals(paused + 1, runner.query(engine::getTime));
+            assertFalse(runner.isRunning());
+
+            // как в UI: перед сбросом — свежие копии процессов
+            runner.execute(() -> {
+                scheduler.setProcesses(processes());
+                engine.reset();
+            });
+            assertEquals(0, runner.snapshot().getTime());
+            runner.step();
+            assertEquals(1, runner.snapshot().getTime());
+            assertFalse(runner.isRunning());
+
+            runner.setTicksPerSecond(SimulationRunner.TURBO);
+            runner.start();
+            assertTrue(finished.await(5, TimeUnit.SECONDS));
+            // query ждет конца шага, после которого снимок уже опубликован
+            assertTrue(runner.query(scheduler::isFinished));
+            SimulationSnapshot last = runner.snapshot();
+            assertEquals(8, last.getTime());
+            assertTrue(last.getProcesses().stream().allMatch(p -> p.getFinishTime() >= 0));
+            assertEquals(List.of("A", "B"), last.getProcesses().stream().map(ProcessSnapshot::getId).toList());
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    private static List<ScheduledProcess> processes() {
+        return List.of(
+                new ScheduledProcess("A", 0, 5, 1),
+                new ScheduledProcess("B", 2, 3, 0)
+        );
+    }
+}
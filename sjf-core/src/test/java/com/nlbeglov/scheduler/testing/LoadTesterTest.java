@@ -0,0 +1,56 @@
+package com.nlbeglov.scheduler.testing;
+
+import com.nlbeglov.scheduler.core.FairScheduler;
+import com.nlbeglov.scheduler.core.MlfqScheduler;
+import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
+import com.nlbeglov.scheduler.core.Scheduler;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ProcessArena;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTesterTest {
+
+    @Test
+    void parallelRunManyIsReproducibleForAnyThreadCount() {
+        SchedulerConfig config = new SchedulerConfig(SchedulingMode.PREEMPTIVE, true, 3);
+        List<SimulationStats> sequential = new LoadTester(99).runMany(64, 50, 100, 1, 20, 0, 5, config);
+        List<SimulationStats> parallel = new LoadTester(99).runMany(64, 50, 100, 1, 20, 0, 5, config, 4);
+
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            SimulationStats a = sequential.get(i);
+            SimulationStats b = parallel.get(i);
+            assertEquals(Double.doubleToLongBits(a.getAvgWaitingTime()), Double.doubleToLongBits(b.getAvgWaitingTime()),
+                    "Прогон " + i + " должен совпадать побитово");
+            assertEquals(Double.doubleToLongBits(a.getAvgTurnaroundTime()), Double.doubleToLongBits(b.getAvgTurnaroundTime()));
+            assertEquals(a.getMaxWaitingTime(), b.getMaxWaitingTime());
+            assertEquals(a.getMaxTurnaroundTime(), b.getMaxTurnaroundTime());
+        }
+    }
+
+    @Test
+    void arenaIsReusedAcrossRunsWithoutCopying() {
+        List<ScheduledProcess> processes = new RandomWorkloadGenerator(7).generate(40, 60, 1, 10, 0, 4);
+        ProcessArena arena = new ProcessArena(processes);
+        SchedulerConfig config = new SchedulerConfig(SchedulingMode.PREEMPTIVE, true, 3);
+        LoadTester tester = new LoadTester(1);
+
+        SimulationStats expected = tester.runSingle(processes, config);
+        for (Scheduler scheduler : List.of(new SJFWithPriorityScheduler(), new FairScheduler(), new MlfqScheduler())) {
+            SimulationStats first = tester.runSingle(scheduler, arena, config);
+            assertSame(arena.processes(), scheduler.getAllProcesses(), "Список арены не должен копироваться");
+            SimulationStats second = tester.runSingle(scheduler, arena, config);
+            assertEquals(first.getAvgWaitingTime(), second.getAvgWaitingTime());
+            assertEquals(first.getMaxTurnaroundTime(), second.getMaxTurnaroundTime());
+        }
+        assertEquals(expected.getAvgWaitingTime(), tester.runSingle(arena, config).getAvgWaitingTime());
+        assertNull(processes.get(0).getFinishTime(), "Исходные процессы не меняются");
+    }
+}
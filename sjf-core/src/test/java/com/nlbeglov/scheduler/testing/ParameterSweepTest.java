@@ -0,0 +1,51 @@
+package com.nlbeglov.scheduler.testing;
+
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParameterSweepTest {
+
+    @Test
+    void resumedSweepMatchesUninterruptedOne(@TempDir Path dir) throws Exception {
+        SweepGrid grid = new SweepGrid(
+                List.of(SchedulingMode.PREEMPTIVE, SchedulingMode.NON_PREEMPTIVE),
+                List.of(false, true),
+                List.of(2, 8),
+                SweepGrid.shapes(new int[]{20, 40}, new int[]{50}, new int[][]{{1, 10}}, new int[][]{{0, 5}}));
+        // без старения интервал не перебирается: 2 режима × (1 + 2) конфигурации × 2 формы
+        assertEquals(12, grid.size());
+
+        Path full = dir.resolve("full.csv");
+        assertEquals(12, new ParameterSweep(7, 16, 4).run(grid, full));
+        List<String> expected = sorted(full);
+        assertEquals(12, expected.size());
+
+        // обрыв после первой строки данных и посередине второй
+        Path partial = dir.resolve("partial.csv");
+        List<String> lines = Files.readAllLines(full, StandardCharsets.UTF_8);
+        String cut = lines.get(0) + "\n" + lines.get(1) + "\n" + lines.get(2) + "\n" + lines.get(3).substring(0, 5);
+        Files.writeString(partial, cut, StandardCharsets.UTF_8);
+
+        // ячейки первой строки не пересчитываются; форма той строки досчитывается
+        assertEquals(11, new ParameterSweep(7, 16, 2).run(grid, partial));
+        assertEquals(expected, sorted(partial));
+        assertEquals(0, new ParameterSweep(7, 16, 2).run(grid, partial));
+
+        assertThrows(IllegalArgumentException.class, () -> new ParameterSweep(8, 16, 2).run(grid, partial));
+    }
+
+    private static List<String> sorted(Path file) throws Exception {
+        return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .skip(2)
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.nlbeglov.scheduler.testing;
+
+import com.nlbeglov.scheduler.core.FcfsPriorityPolicy;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.core.SchedulingPolicy;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveBatchEngineTest {
+
+    @Test
+    void primitiveEngineMatchesObjectScheduler() {
+        Random random = new Random(2024);
+        LoadTester tester = new LoadTester();
+        PrimitiveBatchEngine engine = new PrimitiveBatchEngine();
+        for (int round = 0; round < 30; round++) {
+            List<ScheduledProcess> processes = new ArrayList<>();
+            int count = 1 + random.nextInt(80);
+            for (int i = 0; i < count; i++) {
+                processes.add(new ScheduledProcess("P" + i, random.nextInt(150),
+                        random.nextInt(25), random.nextInt(7)));
+            }
+            engine.load(processes);
+            for (SchedulingMode mode : SchedulingMode.values()) {
+                for (boolean aging : new boolean[]{false, true}) {
+                    for (SchedulingPolicy policy : List.of(SchedulingPolicy.DEFAULT, FcfsPriorityPolicy.INSTANCE)) {
+                        for (int switchCost : new int[]{0, 2}) {
+                            SchedulerConfig config = new SchedulerConfig(mode, aging, 1 + random.nextInt(5), policy,
+                                    switchCost);
+                            SimulationStats expected = tester.runSingle(processes, config);
+                            SimulationStats actual = engine.run(config);
+
+                            assertEquals(expected.getAvgWaitingTime(), actual.getAvgWaitingTime(), 1e-9);
+                            assertEquals(expected.getAvgTurnaroundTime(), actual.getAvgTurnaroundTime(), 1e-9);
+                            assertEquals(expected.getMaxWaitingTime(), actual.getMaxWaitingTime());
+                            assertEquals(expected.getMaxTurnaroundTime(), actual.getMaxTurnaroundTime());
+                            assertEquals(expected.getContextSwitches(), actual.getContextSwitches());
+                            assertEquals(expected.getPreemptions(), actual.getPreemptions());
+                            assertEquals(expected.getIdleTicks(), actual.getIdleTicks());
+                            assertEquals(expected.getOverheadTicks(), actual.getOverheadTicks());
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
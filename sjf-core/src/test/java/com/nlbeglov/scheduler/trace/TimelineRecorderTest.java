@@ -0,0 +1,63 @@
+package com.nlbeglov.scheduler.trace;
+
+import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.sim.SimulationEngine;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimelineRecorderTest {
+
+    @Test
+    void recordsSegmentsAndReadsThemBack() throws IOException {
+        for (boolean eventDriven : new boolean[]{false, true}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (TimelineWriter writer = new TimelineWriter(bytes)) {
+                run(writer, eventDriven);
+                assertEquals(5, writer.getCount());
+            }
+
+            List<String> segments = new ArrayList<>();
+            try (TimelineReader reader = new TimelineReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+                for (TimelineSegment s = reader.next(); s != null; s = reader.next()) {
+                    segments.add(s.toString());
+                }
+            }
+            assertEquals(List.of(
+                    "A@0[0, 1) PREEMPTED",
+                    "B@0[1, 4) COMPLETED",
+                    "A@0[4, 8) COMPLETED",
+                    "idle@0[8, 10) IDLE",
+                    "C@0[10, 11) COMPLETED"
+            ), segments, "eventDriven=" + eventDriven);
+            // заголовок 8 байт + по 4-6 байт на отрезок
+            assertTrue(bytes.size() < 8 + 5 * 7);
+        }
+    }
+
+    private static void run(TimelineWriter writer, boolean eventDriven) {
+        SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+        scheduler.setConfig(new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5));
+        scheduler.setProcesses(List.of(
+                new ScheduledProcess("A", 0, 5, 2),
+                new ScheduledProcess("B", 1, 3, 0),
+                new ScheduledProcess("C", 10, 1, 1)
+        ));
+        SimulationEngine engine = new SimulationEngine(scheduler);
+        engine.addSegmentListener(new TimelineRecorder(writer));
+        engine.setEventDriven(eventDriven);
+        engine.start();
+        while (engine.isRunning()) {
+            engine.step();
+        }
+    }
+}
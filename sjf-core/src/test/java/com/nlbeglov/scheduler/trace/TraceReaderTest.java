@@ -0,0 +1,86 @@
+package com.nlbeglov.scheduler.trace;
+
+import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
+import com.nlbeglov.scheduler.core.SchedulerConfig;
+import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.testing.LoadTester;
+import com.nlbeglov.scheduler.testing.RandomWorkloadGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceReaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void streamingReplayMatchesInMemoryRun() throws IOException {
+        List<ScheduledProcess> processes = new RandomWorkloadGenerator(5).generate(2_000, 3_000, 1, 10, 0, 6);
+        Path trace = dir.resolve("workload.trace");
+        assertEquals(2_000, TraceWriter.write(trace, processes));
+
+        SchedulerConfig config = new SchedulerConfig(SchedulingMode.PREEMPTIVE, true, 4);
+        SimulationStats expected = new LoadTester(1).runSingle(processes, config);
+        // маленькое окно, чтобы чтение пересекало границы отображений
+        try (TraceReader reader = new TraceReader(trace, 100)) {
+            SimulationStats actual = new LoadTester(1).runSource(reader, config);
+            assertEquals(expected.getCount(), actual.getCount());
+            assertEquals(expected.getAvgWaitingTime(), actual.getAvgWaitingTime(), 1e-9);
+            assertEquals(expected.getMaxTurnaroundTime(), actual.getMaxTurnaroundTime());
+            assertEquals(expected.getWaiting().getP99(), actual.getWaiting().getP99());
+        }
+    }
+
+    @Test
+    void schedulerKeepsOnlyLiveProcessesAndReplaysAfterReset() throws IOException {
+        Path csv = dir.resolve("workload.csv");
+        Files.writeString(csv, "id,arrival,burst,priority\n"
+                + "A,0,2,1\n"
+                + "B,1,1,0\n"
+                + "\n"
+                + "C,10,3,2\n");
+        Path trace = dir.resolve("workload.trace");
+        assertEquals(3, TraceWriter.convertCsv(csv, trace));
+
+        try (TraceReader reader = new TraceReader(trace)) {
+            SJFWithPriorityScheduler scheduler = new SJFWithPriorityScheduler();
+            scheduler.setConfig(new SchedulerConfig(SchedulingMode.PREEMPTIVE, false, 5));
+            scheduler.setProcessSource(reader);
+            for (int round = 0; round < 2; round++) {
+                assertEquals("P1", scheduler.step(0).getId());
+                assertEquals("P2", scheduler.step(1).getId());
+                List<ScheduledProcess> live = scheduler.getAllProcesses();
+                assertEquals(1, live.size(), "Завершенный P2 не должен храниться");
+                assertSame(live, scheduler.getAllProcesses(), "Список живых процессов не копируется на каждый вызов");
+                scheduler.step(2);
+                assertTrue(live.isEmpty());
+                int time = 3;
+                while (!scheduler.isFinished()) {
+                    scheduler.step(time);
+                    time = scheduler.fastForward(time + 1);
+                }
+                assertEquals(13, time);
+                assertEquals(3, scheduler.getStatistics().getCount());
+                scheduler.reset();
+            }
+        }
+    }
+
+    @Test
+    void rejectsUnsortedCsv() throws IOException {
+        Path csv = dir.resolve("unsorted.csv");
+        Files.writeString(csv, "5,1,0\n3,1,0\n");
+        IOException e = assertThrows(IOException.class,
+                () -> TraceWriter.convertCsv(csv, dir.resolve("unsorted.trace")));
+        assertTrue(e.getMessage().contains(":2:"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.nlbeglov.scheduler.ui;
+
+import com.nlbeglov.scheduler.sim.EventLog;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Элементы ListView поверх EventLog: элемент — порядковый номер записи, текст собирает ячейка
+ * при отрисовке, то есть только для видимых строк. sync() раз за кадр сдвигает окно номеров
+ * к содержимому журнала одним изменением списка.
+ */
+public class EventLogItems extends ObservableListBase<Long> {
+
+    private final EventLog log;
+    private long first;
+    private long end;
+
+    public EventLogItems(EventLog log) {
+        this.log = log;
+    }
+
+    /**
+     * Подключить к списку: элементы и ячейки с ленивым форматированием.
+     */
+    public void attach(ListView<Long> view) {
+        view.setItems(this);
+        view.setCellFactory(v -> new ListCell<>() {
+            @Override
+            protected void updateItem(Long seq, boolean empty) {
+                super.updateItem(seq, empty);
+                setText(empty || seq == null ? null : log.format(seq));
+            }
+        });
+    }
+
+    /**
+     * Поток UI: синхронизировать окно номеров с журналом.
+     */
+    public void sync() {
+        long newFirst;
+        long newEnd;
+        synchronized (log) {
+            newFirst = log.first();
+            newEnd = log.end();
+        }
+        if (newFirst == first && newEnd == end) {
+            return;
+        }
+        long oldFirst = first;
+        long oldEnd = end;
+        long keepFrom = Math.max(oldFirst, newFirst);
+        long keepTo = Math.min(oldEnd, newEnd);
+        beginChange();
+        if (keepFrom >= keepTo) {
+            first = newFirst;
+            end = newEnd;
+            if (oldEnd > oldFirst) {
+                nextRemove(0, range(oldFirst, oldEnd));
+            }
+            if (newEnd > newFirst) {
+                nextAdd(0, size());
+            }
+        } else {
+            first = newFirst;
+            end = newEnd;
+            if (keepFrom > oldFirst) {
+                nextRemove(0, range(oldFirst, keepFrom));
+            }
+            if (newEnd > keepTo) {
+                nextAdd((int) (keepTo - newFirst), size());
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public Long get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return first + index;
+    }
+
+    @Override
+    public int size() {
+        return (int) (end - first);
+    }
+
+    private static List<Long> range(long from, long to) {
+        return new AbstractList<>() {
+            @Override
+            public Long get(int index) {
+                return from + index;
+            }
+
+            @Override
+            public int size() {
+                return (int) (to - from);
+            }
+        };
+    }
+}
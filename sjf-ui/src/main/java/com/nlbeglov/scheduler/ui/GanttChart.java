@@ -0,0 +1,198 @@
+package com.nlbeglov.scheduler.ui;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Виртуализированная диаграмма Ганта поверх GanttModel. Canvas занимает размер компонента,
+ * и рисуется только видимое окно: видимые дорожки и участки из GanttModel.visibleRuns.
+ * Перерисовка не чаще раза за кадр и только при изменении модели или окна.
+ * <p>
+ * Колесо мыши — масштаб вокруг курсора, Shift+колесо или перетаскивание — прокрутка.
+ * Пока правый край окна на текущем моменте, окно следует за симуляцией.
+ */
+public class GanttChart extends Region {
+
+    private static final double LABEL_WIDTH = 70;
+    private static final double AXIS_HEIGHT = 20;
+    private static final double LANE_HEIGHT = 22;
+    private static final double MIN_TICKS_PER_PIXEL = 1.0 / 40;
+
+    private final GanttModel model;
+    private final Canvas canvas = new Canvas();
+    private final List<Color> laneColors = new ArrayList<>();
+
+    private double fromTick;
+    private double ticksPerPixel = 1.0 / 20; // 20 px на такт, как раньше
+    private double firstLane;
+    private boolean follow = true;
+
+    private long drawnVersion = -1;
+    private boolean viewChanged = true;
+    private double dragX;
+    private double dragY;
+
+    public GanttChart(GanttModel model) {
+        this.model = model;
+        getChildren().add(canvas);
+        setMinSize(200, 100);
+        setPrefSize(800, 300);
+
+        setOnScroll(this::onScroll);
+        setOnMousePressed(e -> {
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        setOnMouseDragged(this::onDrag);
+
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (viewChanged || drawnVersion != model.getVersion()) {
+                    redraw();
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Вернуть окно к началу и исходному масштабу.
+     */
+    public void resetView() {
+        fromTick = 0;
+        ticksPerPixel = 1.0 / 20;
+        firstLane = 0;
+        follow = true;
+        laneColors.clear();
+        viewChanged = true;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        canvas.setWidth(getWidth());
+        canvas.setHeight(getHeight());
+        viewChanged = true;
+    }
+
+    private double plotWidth() {
+        return Math.max(1, canvas.getWidth() - LABEL_WIDTH);
+    }
+
+    private int visibleLanes() {
+        return (int) Math.ceil((canvas.getHeight() - AXIS_HEIGHT) / LANE_HEIGHT);
+    }
+
+    private void onScroll(ScrollEvent e) {
+        if (e.isShiftDown() || e.getDeltaY() == 0) {
+            double delta = e.getDeltaX() != 0 ? e.getDeltaX() : e.getDeltaY();
+            pan(-delta, 0);
+        } else {
+            double factor = e.getDeltaY() > 0 ? 0.8 : 1.25;
+            double anchorX = Math.max(0, e.getX() - LABEL_WIDTH);
+            double anchorTick = fromTick + anchorX * ticksPerPixel;
+            double maxTicksPerPixel = Math.max(1, model.getClock()) / plotWidth() * 2;
+            ticksPerPixel = Math.max(MIN_TICKS_PER_PIXEL, Math.min(maxTicksPerPixel, ticksPerPixel * factor));
+            fromTick = Math.max(0, anchorTick - anchorX * ticksPerPixel);
+            follow = false;
+        }
+        viewChanged = true;
+        e.consume();
+    }
+
+    private void onDrag(MouseEvent e) {
+        pan(dragX - e.getX(), (dragY - e.getY()) / LANE_HEIGHT);
+        dragX = e.getX();
+        dragY = e.getY();
+    }
+
+    private void pan(double dxPixels, double dLanes) {
+        fromTick = Math.max(0, fromTick + dxPixels * ticksPerPixel);
+        int maxFirst = Math.max(0, model.getLaneCount() - visibleLanes() + 1);
+        firstLane = Math.max(0, Math.min(maxFirst, firstLane + dLanes));
+        // прокрутка к текущему моменту снова включает слежение
+        follow = fromTick + plotWidth() * ticksPerPixel >= model.getClock();
+        viewChanged = true;
+    }
+
+    private Color laneColor(int lane) {
+        while (laneColors.size() <= lane) {
+            // золотой угол дает различимые соседние цвета
+            laneColors.add(Color.hsb((laneColors.size() * 137.508) % 360, 0.55, 0.9));
+        }
+        return laneColors.get(lane);
+    }
+
+    // модель наполняется из потока симуляции и читается без блокировки (см. GanttModel);
+    // версия берется до чтения, поэтому изменения, не попавшие в кадр, вызовут перерисовку следующего
+    private void redraw() {
+        drawnVersion = model.getVersion();
+        viewChanged = false;
+
+        double width = plotWidth();
+        int pixels = (int) width;
+        if (follow) {
+            fromTick = Math.max(0, model.getClock() - width * ticksPerPixel);
+        }
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(Color.WHITE);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.setFont(Font.font(11));
+
+        drawAxis(gc, width);
+
+        int first = (int) firstLane;
+        int last = Math.min(model.getLaneCount(), first + visibleLanes());
+        for (int lane = first; lane < last; lane++) {
+            double y = AXIS_HEIGHT + (lane - first) * LANE_HEIGHT;
+            Color color = laneColor(lane);
+            String id = model.getLaneId(lane);
+            gc.setFill(Color.BLACK);
+            gc.fillText(id, 4, y + LANE_HEIGHT - 7, LABEL_WIDTH - 8);
+            double textWidthGuess = id.length() * 7 + 4;
+            model.visibleRuns(lane, fromTick, ticksPerPixel, pixels, (x0, x1) -> {
+                gc.setFill(color);
+                gc.fillRect(LABEL_WIDTH + x0, y + 2, x1 - x0, LANE_HEIGHT - 4);
+                if (x1 - x0 >= textWidthGuess) {
+                    gc.setFill(textColorFor(color));
+                    gc.fillText(id, LABEL_WIDTH + x0 + 2, y + LANE_HEIGHT - 7);
+                }
+            });
+        }
+
+        gc.setStroke(Color.GRAY);
+        gc.strokeRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.strokeLine(LABEL_WIDTH, 0, LABEL_WIDTH, canvas.getHeight());
+    }
+
+    private void drawAxis(GraphicsContext gc, double width) {
+        // шаг подписей — «круглое» число тактов не уже ~80 px
+        double minStep = 80 * ticksPerPixel;
+        long step = 1;
+        while (step < minStep) {
+            step *= (String.valueOf(step).charAt(0) == '2') ? 2.5 : 2;
+        }
+        gc.setStroke(Color.LIGHTGRAY);
+        gc.setFill(Color.DIMGRAY);
+        long tick = (long) Math.ceil(fromTick / step) * step;
+        for (; tick <= fromTick + width * ticksPerPixel; tick += step) {
+            double x = LABEL_WIDTH + (tick - fromTick) / ticksPerPixel;
+            gc.strokeLine(x, AXIS_HEIGHT - 4, x, canvas.getHeight());
+            gc.fillText(String.valueOf(tick), x + 2, AXIS_HEIGHT - 6);
+        }
+    }
+
+    private Color textColorFor(Color background) {
+        double brightness = (0.299 * background.getRed() + 0.587 * background.getGreen() + 0.114 * background.getBlue());
+        return brightness < 0.5 ? Color.WHITE : Color.BLACK;
+    }
+}
@@ -0,0 +1,211 @@
+package com.nlbeglov.scheduler.ui;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import com.nlbeglov.scheduler.sim.SegmentListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Модель диаграммы Ганта: по дорожке на процесс (в порядке первого появления),
+ * на дорожке — отсортированные отрезки выполнения в примитивных массивах.
+ * Наполняется событиями SimulationEngine; выполняющийся процесс хранится как открытый
+ * отрезок до текущего момента. Запросы работают по видимому окну и не зависят от длины истории.
+ * <p>
+ * Наполняется из потока симуляции, читается из потока UI без блокировок: история только дописывается,
+ * массивы при росте заменяются копиями, а счетчики публикуются через volatile после записи данных.
+ * Читатель, взявший размер, видит все отрезки до него. clear() вызывается, пока поток симуляции
+ * стоит (SimulationRunner.execute).
+ */
+public class GanttModel implements SegmentListener {
+
+    /**
+     * Получатель закрашиваемых участков дорожки в пикселях: [x0, x1).
+     */
+    public interface RunConsumer {
+        void accept(int x0, int x1);
+    }
+
+    // только для потока симуляции
+    private final Map<String, Integer> laneOf = new HashMap<>();
+    private volatile Lane[] lanes = new Lane[16];
+    private volatile int laneCount;
+    private volatile int clock;
+    private volatile long version;
+
+    private static final class Lane {
+        final String id;
+        // сначала новые массивы, затем размер: по прочитанному размеру данные уже видны
+        volatile int[] starts = new int[8];
+        volatile int[] ends = new int[8];
+        volatile int size;
+        volatile int openStart = -1; // начало открытого отрезка или -1
+
+        Lane(String id) {
+            this.id = id;
+        }
+
+        void append(int start, int end) {
+            int n = size;
+            if (n > 0 && ends[n - 1] == start) {
+                ends[n - 1] = end; // повторная выдача CPU встык — один отрезок
+                return;
+            }
+            if (n == starts.length) {
+                starts = Arrays.copyOf(starts, n * 2);
+                ends = Arrays.copyOf(ends, n * 2);
+            }
+            starts[n] = start;
+            ends[n] = end;
+            size = n + 1;
+        }
+    }
+
+    public void clear() {
+        laneOf.clear();
+        lanes = new Lane[16];
+        laneCount = 0;
+        clock = 0;
+        version++;
+    }
+
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    public String getLaneId(int lane) {
+        return lane(lane).id;
+    }
+
+    public int getSegmentCount(int lane) {
+        return lane(lane).size;
+    }
+
+    /**
+     * Конец смоделированного времени.
+     */
+    public int getClock() {
+        return clock;
+    }
+
+    /**
+     * Увеличивается при каждом изменении модели; по нему представление решает, нужна ли перерисовка.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private Lane lane(int lane) {
+        if (lane >= laneCount) {
+            throw new IndexOutOfBoundsException("lane " + lane + " of " + laneCount);
+        }
+        return lanes[lane];
+    }
+
+    private Lane laneFor(String id) {
+        Integer index = laneOf.get(id);
+        if (index != null) {
+            return lanes[index];
+        }
+        int n = laneCount;
+        Lane[] current = lanes;
+        if (n == current.length) {
+            current = Arrays.copyOf(current, n * 2);
+        }
+        Lane lane = new Lane(id);
+        current[n] = lane;
+        lanes = current;
+        laneCount = n + 1;
+        laneOf.put(id, n);
+        return lane;
+    }
+
+    @Override
+    public void onDispatch(int time, int core, ScheduledProcess process) {
+        laneFor(process.getId()).openStart = time;
+        version++;
+    }
+
+    @Override
+    public void onSegment(int core, ScheduledProcess process, int start, int end) {
+        Lane lane = laneFor(process.getId());
+        lane.append(start, end);
+        lane.openStart = -1;
+        version++;
+    }
+
+    @Override
+    public void onClockAdvanced(int from, int to) {
+        clock = to;
+        version++;
+    }
+
+    /**
+     * Участки дорожки lane, видимые в окне из width пикселей, начинающемся с такта fromTick,
+     * при масштабе ticksPerPixel. Отрезки, попадающие в один пиксель, сливаются, поэтому
+     * число участков не больше ширины окна, а работа — O(min(отрезков, width) · log отрезков).
+     */
+    public void visibleRuns(int lane, double fromTick, double ticksPerPixel, int width, RunConsumer out) {
+        Lane l = lane(lane);
+        // размер читается раньше массивов; openStart и clock — как есть на момент чтения
+        int size = l.size;
+        int[] starts = l.starts;
+        int[] ends = l.ends;
+        int openStart = l.openStart;
+        int clock = this.clock;
+        double toTick = fromTick + width * ticksPerPixel;
+        int runStart = -1;
+        int runEnd = -1;
+        int i = firstEndingAfter(ends, size, fromTick);
+        while (i < size && starts[i] < toTick) {
+            int x0 = Math.max(0, (int) Math.floor((starts[i] - fromTick) / ticksPerPixel));
+            int x1 = Math.min(width, Math.max(x0 + 1, (int) Math.ceil((ends[i] - fromTick) / ticksPerPixel)));
+            if (runStart >= 0 && x0 <= runEnd) {
+                runEnd = Math.max(runEnd, x1);
+            } else {
+                if (runStart >= 0) {
+                    out.accept(runStart, runEnd);
+                }
+                runStart = x0;
+                runEnd = x1;
+            }
+            if (x1 >= width) {
+                break;
+            }
+            // остаток пикселя x1 - 1 уже закрашен: переходим к первому отрезку за ним
+            i = Math.max(i + 1, firstEndingAfter(ends, size, fromTick + x1 * ticksPerPixel));
+        }
+        if (openStart >= 0 && openStart < toTick && clock > fromTick) {
+            int x0 = Math.max(0, (int) Math.floor((openStart - fromTick) / ticksPerPixel));
+            int x1 = Math.min(width, Math.max(x0 + 1, (int) Math.ceil((clock - fromTick) / ticksPerPixel)));
+            if (runStart >= 0 && x0 <= runEnd) {
+                runEnd = Math.max(runEnd, x1);
+            } else {
+                if (runStart >= 0) {
+                    out.accept(runStart, runEnd);
+                }
+                runStart = x0;
+                runEnd = x1;
+            }
+        }
+        if (runStart >= 0) {
+            out.accept(runStart, runEnd);
+        }
+    }
+
+    // индекс первого отрезка с концом строго после tick (отрезки не пересекаются и отсортированы)
+    private static int firstEndingAfter(int[] ends, int size, double tick) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] <= tick) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -3,22 +3,26 @@ package com.nlbeglov.scheduler.ui;
 import com.nlbeglov.scheduler.core.SJFWithPriorityScheduler;
 import com.nlbeglov.scheduler.core.SchedulerConfig;
 import com.nlbeglov.scheduler.core.SchedulingMode;
+import com.nlbeglov.scheduler.model.ProcessArena;
+import com.nlbeglov.scheduler.model.ProcessSnapshot;
 import com.nlbeglov.scheduler.model.ScheduledProcess;
 import com.nlbeglov.scheduler.model.SimulationStats;
+import com.nlbeglov.scheduler.sim.EventLog;
+import com.nlbeglov.scheduler.sim.SegmentListener;
 import com.nlbeglov.scheduler.sim.SimulationEngine;
-import com.nlbeglov.scheduler.sim.SimulationListener;
+import com.nlbeglov.scheduler.sim.SimulationRunner;
+import javafx.animation.AnimationTimer;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
@@ -34,40 +38,58 @@ import javafx.scene.control.SplitPane;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
 
-public class MainController implements SimulationListener {
+public class MainController implements SegmentListener {
 
     private final BorderPane root = new BorderPane();
 
     private final SJFWithPriorityScheduler scheduler;
     private SchedulerConfig config;
     private final SimulationEngine engine;
+    private final SimulationRunner runner;
 
     private final ObservableList<ScheduledProcess> processes = FXCollections.observableArrayList();
-    private final ObservableList<String> logLines = FXCollections.observableArrayList();
+    // журнал пишется из потока симуляции; список показывает его окно и форматирует только видимые строки
+    private final EventLog log = new EventLog(500);
+    private final EventLogItems logItems = new EventLogItems(log);
 
     private final TableView<ScheduledProcess> processTable = new TableView<>();
-    private final ListView<String> logList = new ListView<>(logLines);
+    private final ListView<Long> logList = new ListView<>();
 
-    private final Canvas ganttCanvas = new Canvas(800, 300);
-    private final Map<String, Color> processColors = new HashMap<>();
+    private final GanttModel ganttModel = new GanttModel();
+    private final GanttChart ganttChart = new GanttChart(ganttModel);
 
     private final Random random = new Random();
-    private boolean needsSimulationReload = true;
+    private volatile boolean needsSimulationReload = true;
+
+    // процесс на ЦП (null — простой) и с какого момента ЦП свободен
+    private ScheduledProcess running;
+    private int idleSince;
+    private boolean idleLogged;
 
     public MainController(SJFWithPriorityScheduler scheduler, SchedulerConfig config) {
         this.scheduler = scheduler;
         this.config = config;
-        this.engine = new SimulationEngine(scheduler, this);
+        this.engine = new SimulationEngine(scheduler);
+        engine.addSegmentListener(ganttModel);
+        engine.addSegmentListener(this);
+        this.runner = new SimulationRunner(engine);
 
         buildUI();
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                logItems.sync();
+            }
+        }.start();
     }
 
     public Parent getRoot() {
@@ -78,6 +100,22 @@ public class MainController implements SimulationListener {
         return engine;
     }
 
+    public SimulationRunner getRunner() {
+        return runner;
+    }
+
+    /**
+     * Остановить поток симуляции и дописать журнал в файл, если он сбрасывается.
+     */
+    public void shutdown() {
+        runner.shutdown();
+        try {
+            log.stopSpill();
+        } catch (IOException e) {
+            System.err.println("Не удалось дописать журнал: " + e.getMessage());
+        }
+    }
+
     private void buildUI() {
         VBox leftPane = new VBox(10);
         leftPane.setPadding(new Insets(10));
@@ -134,9 +172,11 @@ public class MainController implements SimulationListener {
         clearBtn.setTooltip(new Tooltip("Удалить все процессы и сбросить симуляцию"));
         clearBtn.setOnAction(e -> {
             processes.clear();
-            scheduler.setProcesses(Collections.emptyList());
-            engine.reset();
-            clearGantt();
+            runner.execute(() -> {
+                scheduler.setProcesses(Collections.emptyList());
+                engine.reset();
+                clearGantt();
+            });
             needsSimulationReload = true;
         });
 
@@ -151,7 +191,10 @@ public class MainController implements SimulationListener {
         Label title = new Label("Симуляция");
         title.setStyle("-fx-font-size: 14px; -fx-font-weight: bold;");
 
-        pane.getChildren().addAll(title, ganttCanvas);
+        Label hint = new Label("Колесо — масштаб, Shift+колесо или перетаскивание — прокрутка");
+        hint.setStyle("-fx-font-size: 11px; -fx-text-fill: #555;");
+        VBox.setVgrow(ganttChart, Priority.ALWAYS);
+        pane.getChildren().addAll(title, ganttChart, hint);
         clearGantt();
         return pane;
     }
@@ -178,6 +221,17 @@ public class MainController implements SimulationListener {
         nonPreemptiveBtn.setToggleGroup(modeGroup);
         nonPreemptiveBtn.setTooltip(new Tooltip("Процесс дорабатывает до конца, даже если появился более приоритетный"));
 
+        ComboBox<String> speedBox = new ComboBox<>(FXCollections.observableArrayList(
+                "5 тактов/с", "50 тактов/с", "500 тактов/с", "5000 тактов/с", "Турбо"));
+        speedBox.getSelectionModel().select(0);
+        speedBox.setTooltip(new Tooltip("Скорость симуляции; в турбо-режиме такты между событиями пропускаются"));
+        speedBox.setOnAction(e -> {
+            String speed = speedBox.getValue();
+            runner.setTicksPerSecond(speed.equals("Турбо")
+                    ? SimulationRunner.TURBO
+                    : Double.parseDouble(speed.substring(0, speed.indexOf(' '))));
+        });
+
         CheckBox agingBox = new CheckBox("Старение приоритета");
         agingBox.setTooltip(new Tooltip("Со временем ожидания приоритет процесса повышается"));
         agingBox.setSelected(false);
@@ -198,34 +252,27 @@ public class MainController implements SimulationListener {
         agingBox.setOnAction(e -> needsSimulationReload = true);
 
         runBtn.setOnAction(e -> {
-            if (needsSimulationReload || scheduler.isFinished()) {
-                prepareSimulation(preemptiveBtn.isSelected(), agingBox.isSelected());
-            } else {
-                syncSchedulerConfig(preemptiveBtn.isSelected(), agingBox.isSelected());
-            }
-            engine.start();
+            reloadIfNeeded(preemptiveBtn.isSelected(), agingBox.isSelected());
+            runner.start();
         });
-        pauseBtn.setOnAction(e -> engine.pause());
+        pauseBtn.setOnAction(e -> runner.pause());
         resetBtn.setOnAction(e -> {
-            engine.reset();
-            clearGantt();
-            logLines.clear();
+            runner.execute(() -> {
+                engine.reset();
+                clearGantt();
+            });
+            log.clear();
             needsSimulationReload = true;
         });
         stepBtn.setOnAction(e -> {
-            if (needsSimulationReload || scheduler.isFinished()) {
-                prepareSimulation(preemptiveBtn.isSelected(), agingBox.isSelected());
-            } else {
-                syncSchedulerConfig(preemptiveBtn.isSelected(), agingBox.isSelected());
-            }
-            engine.start();
-            engine.step();
-            engine.pause();
+            reloadIfNeeded(preemptiveBtn.isSelected(), agingBox.isSelected());
+            runner.step();
         });
 
         box.getChildren().addAll(
                 new Label("Управление симуляцией:"),
                 new HBox(5, runBtn, pauseBtn, stepBtn, resetBtn),
+                new HBox(5, new Label("Скорость:"), speedBox),
                 new Separator(),
                 new Label("Режим:"),
                 preemptiveBtn,
@@ -237,6 +284,16 @@ public class MainController implements SimulationListener {
         return box;
     }
 
+    private void reloadIfNeeded(boolean preemptive, boolean aging) {
+        runner.execute(() -> {
+            if (needsSimulationReload || scheduler.isFinished()) {
+                prepareSimulation(preemptive, aging);
+            } else {
+                syncSchedulerConfig(preemptive, aging);
+            }
+        });
+    }
+
     private void syncSchedulerConfig(boolean preemptive, boolean aging) {
         config = new SchedulerConfig(
                 preemptive ? SchedulingMode.PREEMPTIVE : SchedulingMode.NON_PREEMPTIVE,
@@ -249,8 +306,31 @@ public class MainController implements SimulationListener {
     private VBox buildLogPane() {
         VBox box = new VBox(5);
         box.setPadding(new Insets(10));
+        logItems.attach(logList);
         logList.setPlaceholder(new Label("Сообщения симуляции появятся здесь"));
-        box.getChildren().addAll(new Label("Журнал:"), logList);
+
+        CheckBox spillBox = new CheckBox("Писать полный журнал в файл");
+        spillBox.setTooltip(new Tooltip("В окне остаются последние 500 записей; в файл попадают все"));
+        spillBox.setOnAction(e -> {
+            try {
+                if (!spillBox.isSelected()) {
+                    log.stopSpill();
+                    return;
+                }
+                FileChooser chooser = new FileChooser();
+                chooser.setInitialFileName("simulation.log");
+                File file = chooser.showSaveDialog(logList.getScene().getWindow());
+                if (file == null) {
+                    spillBox.setSelected(false);
+                    return;
+                }
+                log.spillTo(file.toPath());
+            } catch (IOException ex) {
+                spillBox.setSelected(false);
+                log.addText("Ошибка записи журнала: " + ex.getMessage());
+            }
+        });
+        box.getChildren().addAll(new Label("Журнал:"), logList, spillBox);
         return box;
     }
 
@@ -325,99 +405,93 @@ public class MainController implements SimulationListener {
             } else {
                 processes.add(p);
             }
-            scheduler.setProcesses(cloneProcesses(processes));
-            engine.reset();
-            clearGantt();
+            // планировщик получает собственные копии один раз на правку, повторные прогоны их только сбрасывают
+            ProcessArena arena = new ProcessArena(processes);
+            runner.execute(() -> {
+                scheduler.setProcesses(arena.processes());
+                engine.reset();
+                clearGantt();
+            });
             needsSimulationReload = true;
         });
     }
 
-    private List<ScheduledProcess> cloneProcesses(List<ScheduledProcess> src) {
-        return src.stream()
-                .map(p -> new ScheduledProcess(p.getId(), p.getArrivalTime(),
-                        p.getBurstTime(), p.getBasePriority()))
-                .collect(Collectors.toList());
-    }
-
     private void clearGantt() {
-        GraphicsContext gc = ganttCanvas.getGraphicsContext2D();
-        gc.setFill(Color.WHITE);
-        gc.fillRect(0, 0, ganttCanvas.getWidth(), ganttCanvas.getHeight());
-        gc.setStroke(Color.GRAY);
-        gc.strokeRect(0, 0, ganttCanvas.getWidth(), ganttCanvas.getHeight());
-        processColors.clear();
+        ganttModel.clear();
+        ganttChart.resetView();
+        running = null;
+        idleSince = 0;
+        idleLogged = false;
     }
 
-    @Override
-    public void onTimeAdvanced(int time, ScheduledProcess runningProcess, List<ScheduledProcess> snapshot) {
-        // логика отрисовки Ганта: рисуем по времени time
-        if (runningProcess != null) {
-            drawGanttSlice(time, runningProcess);
-        }
+    // журнал обновляется по событиям планирования, а не на каждом такте; диаграмму ведет ganttModel
 
-        // лог: можно писать менее подробно, но для наглядности — так
-        if (runningProcess != null) {
-            onLogEvent(String.format("t=%d: выполняется %s (приор.=%d, осталось=%d)",
-                    time, runningProcess.getId(), runningProcess.getEffectivePriority(),
-                    runningProcess.getRemainingTime()));
-        } else {
-            onLogEvent(String.format("t=%d: ЦП простаивает", time));
-        }
+    @Override
+    public void onArrival(int time, ScheduledProcess process) {
+        log.add(time, EventLog.Kind.ARRIVAL, process.getId());
     }
 
-    private void drawGanttSlice(int time, ScheduledProcess proc) {
-        GraphicsContext gc = ganttCanvas.getGraphicsContext2D();
-        Color color = processColors.computeIfAbsent(proc.getId(), id -> randomColor());
-        gc.setFill(color);
-
-        double widthPerUnit = 20; // масштаб
-        double height = 30;
-        double y = 20 + (processColors.keySet().stream().sorted().collect(Collectors.toList())
-                .indexOf(proc.getId()) * (height + 5));
-        double x = time * widthPerUnit;
+    @Override
+    public void onDispatch(int time, int core, ScheduledProcess process) {
+        running = process;
+        idleLogged = false;
+        log.add(time, EventLog.Kind.DISPATCH, process.getId(),
+                process.getEffectivePriority(), process.getRemainingTime());
+    }
 
-        gc.fillRect(x, y, widthPerUnit, height);
-        gc.setStroke(Color.BLACK);
-        gc.strokeRect(x, y, widthPerUnit, height);
+    @Override
+    public void onPriorityAged(int time, ScheduledProcess process, int oldPriority) {
+        log.add(time, EventLog.Kind.PRIORITY_AGED, process.getId(),
+                oldPriority, process.getEffectivePriority());
+    }
 
-        gc.setFill(textColorFor(color));
-        gc.setFont(Font.font(11));
-        gc.fillText(proc.getId(), x + 2, y + height - 8);
+    @Override
+    public void onPreempt(int time, int core, ScheduledProcess process) {
+        log.add(time, EventLog.Kind.PREEMPT, process.getId());
     }
 
-    private Color randomColor() {
-        return Color.color(random.nextDouble(), random.nextDouble(), random.nextDouble());
+    @Override
+    public void onComplete(int time, int core, ScheduledProcess process) {
+        log.add(time, EventLog.Kind.COMPLETE, process.getId());
     }
 
-    private Color textColorFor(Color background) {
-        double brightness = (0.299 * background.getRed() + 0.587 * background.getGreen() + 0.114 * background.getBlue());
-        return brightness < 0.5 ? Color.WHITE : Color.BLACK;
+    @Override
+    public void onSegment(int core, ScheduledProcess process, int start, int end) {
+        running = null;
+        idleSince = end;
     }
 
     @Override
-    public void onLogEvent(String message) {
-        logLines.add(message);
-        if (logLines.size() > 500) {
-            logLines.remove(0);
+    public void onClockAdvanced(int from, int to) {
+        if (running == null && !idleLogged && idleSince < to) {
+            // ЦП свободен с конца последнего отрезка
+            log.add(idleSince, EventLog.Kind.IDLE, null);
+            idleLogged = true;
         }
     }
 
     @Override
     public void onSimulationFinished() {
-        onLogEvent("Симуляция завершена");
-        SimulationStats stats = SimulationStats.fromProcesses(new ArrayList<>(scheduler.getAllProcesses()));
-        onLogEvent(String.format("Среднее ожидание=%.3f, среднее время обращения=%.3f",
+        log.addText("Симуляция завершена");
+        SimulationStats stats = scheduler.getStatistics();
+        log.addText(String.format("Среднее ожидание=%.3f, среднее время обращения=%.3f",
                 stats.getAvgWaitingTime(), stats.getAvgTurnaroundTime()));
+        log.addText(String.format("Ожидание: p50=%d, p90=%d, p99=%d, p99.9=%d, σ=%.3f",
+                stats.getWaiting().getP50(), stats.getWaiting().getP90(),
+                stats.getWaiting().getP99(), stats.getWaiting().getP999(),
+                stats.getWaiting().getStdDev()));
+        log.addText(String.format("Переключений контекста=%d, вытеснений=%d, простой=%d, накладные расходы=%d тактов",
+                stats.getContextSwitches(), stats.getPreemptions(), stats.getIdleTicks(), stats.getOverheadTicks()));
         appendProcessSummary(scheduler.getAllProcesses());
         needsSimulationReload = true;
     }
 
     private void appendProcessSummary(List<ScheduledProcess> finishedProcesses) {
-        onLogEvent("Итоги по процессам:");
-        onLogEvent("Процесс|Приоритет|Время прибытия|Длительность CPU|Время завершения|Время ожидания|Время пребывания");
+        log.addText("Итоги по процессам:");
+        log.addText("Процесс|Приоритет|Время прибытия|Длительность CPU|Время завершения|Время ожидания|Время пребывания");
         finishedProcesses.stream()
                 .sorted(Comparator.comparing(ScheduledProcess::getId))
-                .forEach(p -> onLogEvent(String.format(
+                .forEach(p -> log.addText(String.format(
                         "%s|%d|%d|%d|%d|%d|%d",
                         p.getId(),
                         p.getBasePriority(),
@@ -429,9 +503,9 @@ public class MainController implements SimulationListener {
                 )));
     }
 
+    // под блокировкой runner
     private void prepareSimulation(boolean preemptive, boolean aging) {
         syncSchedulerConfig(preemptive, aging);
-        scheduler.setProcesses(cloneProcesses(processes));
         engine.reset();
         clearGantt();
         needsSimulationReload = false;
@@ -463,17 +537,22 @@ public class MainController implements SimulationListener {
         turnCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().turnaround()));
 
         resultsTable.getColumns().addAll(idCol, prioCol, arrCol, burstCol, finishCol, waitCol, turnCol);
-        List<ProcessResult> data = scheduler.getAllProcesses().stream()
-                .sorted(Comparator.comparing(ScheduledProcess::getId))
-                .map(p -> new ProcessResult(
-                        p.getId(),
-                        p.getBasePriority(),
-                        p.getArrivalTime(),
-                        p.getBurstTime(),
-                        Optional.ofNullable(p.getFinishTime()).orElse(0),
-                        p.getWaitingTime(),
-                        p.getTurnaroundTime()
-                ))
+        // окно может открываться и во время прогона — берем последний опубликованный снимок, без блокировки
+        List<ProcessResult> data = runner.snapshot().getProcesses().stream()
+                .sorted(Comparator.comparing(ProcessSnapshot::getId))
+                .map(p -> {
+                    int finish = Math.max(p.getFinishTime(), 0);
+                    int turnaround = p.getFinishTime() < 0 ? 0 : finish - p.getArrivalTime();
+                    return new ProcessResult(
+                            p.getId(),
+                            p.getBasePriority(),
+                            p.getArrivalTime(),
+                            p.getBurstTime(),
+                            finish,
+                            p.getFinishTime() < 0 ? 0 : turnaround - p.getBurstTime(),
+                            turnaround
+                    );
+                })
                 .toList();
         resultsTable.setItems(FXCollections.observableArrayList(data));
 
@@ -0,0 +1,8 @@
+module com.nlbeglov.scheduler.ui {
+    requires com.nlbeglov.scheduler;
+    requires javafx.controls;
+    requires javafx.graphics;
+    requires javafx.base;
+
+    exports com.nlbeglov.scheduler.ui;
+}
@@ -0,0 +1,52 @@
+package com.nlbeglov.scheduler.ui;
+
+import com.nlbeglov.scheduler.model.ScheduledProcess;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GanttModelTest {
+
+    @Test
+    void visibleRunsAreExactWhenZoomedInAndDownsampledWhenZoomedOut() {
+        GanttModel model = new GanttModel();
+        ScheduledProcess a = new ScheduledProcess("A", 0, 1, 0);
+        ScheduledProcess b = new ScheduledProcess("B", 0, 1, 0);
+        // миллион тактов: A и B чередуются по 2 такта
+        for (int t = 0; t < 1_000_000; t += 4) {
+            model.onSegment(0, a, t, t + 2);
+            model.onSegment(0, b, t + 2, t + 4);
+        }
+        model.onDispatch(1_000_000, 0, a);
+        model.onClockAdvanced(1_000_000, 1_000_010);
+
+        assertEquals(2, model.getLaneCount());
+        assertEquals(250_000, model.getSegmentCount(0));
+
+        // 10 px на такт: такты [8, 18) — отрезки A [8,10), [12,14), [16,18)
+        List<int[]> runs = runs(model, 0, 8, 0.1, 100);
+        assertEquals(3, runs.size());
+        assertArrayEquals(new int[]{0, 20}, runs.get(0));
+        assertArrayEquals(new int[]{40, 60}, runs.get(1));
+        assertArrayEquals(new int[]{80, 100}, runs.get(2));
+
+        // вся история в 1000 px: каждый пиксель покрыт, участки слиты в один
+        runs = runs(model, 1, 0, 1_000_010 / 1000.0, 1000);
+        assertEquals(1, runs.size());
+        assertArrayEquals(new int[]{0, 1000}, runs.get(0));
+
+        // открытый отрезок A виден до текущего момента
+        runs = runs(model, 0, 1_000_000, 1, 100);
+        assertEquals(1, runs.size());
+        assertArrayEquals(new int[]{0, 10}, runs.get(0));
+    }
+
+    private static List<int[]> runs(GanttModel model, int lane, double from, double ticksPerPixel, int width) {
+        List<int[]> runs = new ArrayList<>();
+        model.visibleRuns(lane, from, ticksPerPixel, width, (x0, x1) -> runs.add(new int[]{x0, x1}));
+        return runs;
+    }
+}
@@ -1,10 +0,0 @@
-module com.nlbeglov.scheduler {
-    requires javafx.controls;
-    requires javafx.graphics;
-    requires javafx.base;
-
-    exports com.nlbeglov.scheduler.ui;
-    exports com.nlbeglov.scheduler.core;
-    exports com.nlbeglov.scheduler.model;
-    exports com.nlbeglov.scheduler.sim;
-}